@@ -0,0 +1,96 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.component.Request;
+import system.manager.SourceStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class AnalyzerBenchmark {
+    @Param({"10000000"})
+    private int requestsCount;
+
+    @Param({"4"})
+    private int sourceCount;
+
+    private List<List<Request>> success;
+
+    @Setup
+    public void createRequests() {
+        Random random = new Random(1);
+        success = new ArrayList<>();
+        for (int i = 0; i < sourceCount; i++) {
+            success.add(new ArrayList<>());
+        }
+        for (int i = 0; i < requestsCount; i++) {
+            int source = random.nextInt(sourceCount);
+            Request request = new Request(i, source, i);
+            request.setTimeInBuffer(random.nextDouble());
+            request.setTimeInProcessor(random.nextDouble());
+            success.get(source).add(request);
+        }
+    }
+
+    @Benchmark
+    public double fivePasses() {
+        double result = 0;
+        for (List<Request> requests : success) {
+            int requestCount = requests.size();
+            double lifeTime = requests.stream().mapToDouble(Request::getLifeTime).sum() / requestCount;
+            double bufferTime = requests.stream().mapToDouble(Request::getTimeInBuffer).sum() / requestCount;
+            double processTime = requests.stream().mapToDouble(Request::getTimeInProcessor).sum() / requestCount;
+            double bufferTimeDispersion = requests.stream().mapToDouble(a -> Math.pow((a.getTimeInBuffer() - bufferTime), 2) / (requestCount - 1)).sum();
+            double processTimeDispersion = requests.stream().mapToDouble(a -> Math.pow((a.getTimeInProcessor() - processTime), 2) / (requestCount - 1)).sum();
+            result += lifeTime + bufferTimeDispersion + processTimeDispersion;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double fusedPass() {
+        double result = 0;
+        for (List<Request> requests : success) {
+            result += analyze(requests);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double parallelFusedPass() {
+        return IntStream.range(0, success.size()).parallel().mapToDouble(i -> analyze(success.get(i))).sum();
+    }
+
+    private double analyze(List<Request> requests) {
+        SourceStatistics statistics = new SourceStatistics();
+        for (Request request : requests) {
+            statistics.add(request);
+        }
+        int requestCount = requests.size();
+        double lifeTime = statistics.getLifeTime().getSum() / requestCount;
+        double bufferTime = statistics.getBufferTime().getSum() / requestCount;
+        double processTime = statistics.getProcessTime().getSum() / requestCount;
+        double bufferTimeDispersion = statistics.getBufferTime().getSquaredDeviation(bufferTime) / (requestCount - 1);
+        double processTimeDispersion = statistics.getProcessTime().getSquaredDeviation(processTime) / (requestCount - 1);
+        return lifeTime + bufferTimeDispersion + processTimeDispersion;
+    }
+}
@@ -0,0 +1,51 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.component.Buffer;
+import system.component.Request;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int capacity;
+
+    @Param({"10"})
+    private int sourceCount;
+
+    private Buffer buffer;
+    private final Random random = new Random(1);
+    private int requestNumber = 0;
+
+    @Setup
+    public void fillBuffer() {
+        buffer = new Buffer(capacity);
+        while (!buffer.isFull()) {
+            buffer.putRequest(new Request(requestNumber++, random.nextInt(sourceCount), requestNumber));
+        }
+    }
+
+    @Benchmark
+    public Request takeAndPut() {
+        Request request = buffer.takeRequest();
+        buffer.putRequest(new Request(requestNumber++, random.nextInt(sourceCount), requestNumber));
+        return request;
+    }
+}
@@ -0,0 +1,53 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.random.ExponentialBatch;
+import system.random.RandomStream;
+import system.random.SplitMix64;
+import system.random.ZigguratExponential;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ExponentialBatchBenchmark.BLOCK_SIZE)
+public class ExponentialBatchBenchmark {
+    static final int BLOCK_SIZE = 64;
+
+    private final RandomStream random = new SplitMix64(1);
+    private final double[] block = new double[BLOCK_SIZE];
+
+    @Benchmark
+    public double[] ziggurat() {
+        for (int i = 0; i < block.length; i++) {
+            block[i] = 1.5 * ZigguratExponential.next(random);
+        }
+        return block;
+    }
+
+    @Benchmark
+    public double[] scalarInversion() {
+        ExponentialBatch.fillScalar(random, 1.5, block);
+        return block;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public double[] vectorInversion() {
+        ExponentialBatch.fill(random, 1.5, block);
+        return block;
+    }
+}
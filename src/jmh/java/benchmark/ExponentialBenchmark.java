@@ -0,0 +1,38 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.random.RandomStream;
+import system.random.SplitMix64;
+import system.random.ZigguratExponential;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExponentialBenchmark {
+    private final RandomStream random = new SplitMix64(1);
+    private double lambda = 1.5;
+    private final double scale = 1 / lambda;
+
+    @Benchmark
+    public double logExpression() {
+        return (-1 / lambda) * Math.log(random.nextDouble());
+    }
+
+    @Benchmark
+    public double ziggurat() {
+        return scale * ZigguratExponential.next(random);
+    }
+}
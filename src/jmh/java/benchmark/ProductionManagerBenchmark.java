@@ -0,0 +1,55 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.component.Buffer;
+import system.component.Request;
+import system.component.Source;
+import system.manager.ProductionManager;
+import system.random.SplitMix64;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductionManagerBenchmark {
+    @Param({"3", "100", "1000", "10000", "100000"})
+    private int sourceCount;
+
+    @Param({"false", "true"})
+    private boolean merged;
+
+    private ProductionManager productionManager;
+
+    @Setup
+    public void createManager() {
+        List<Source> sources = new ArrayList<>(sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            sources.add(new Source(i, 1.0));
+        }
+        productionManager = new ProductionManager(sources, new Buffer(1), Integer.MAX_VALUE, false,
+                merged ? new SplitMix64(1) : null);
+    }
+
+    @Benchmark
+    public Request selectAndGenerate() {
+        productionManager.selectNearestEvent();
+        productionManager.generate();
+        return productionManager.getLastRequest();
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark;
+
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import system.analyzer.ReplicationRunner;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplicationRunnerBenchmark {
+    @Param({"1", "2", "4"})
+    private int parallelism;
+
+    @Param({"16"})
+    private int replications;
+
+    private ForkJoinPool pool;
+    private SimulationConfig config;
+
+    @Setup(Level.Trial)
+    public void createPool() {
+        pool = new ForkJoinPool(parallelism);
+        config = new SimulationConfig(new ConfigJSON(100000, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 1L));
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ReplicationRunner run() {
+        ReplicationRunner runner = new ReplicationRunner(config, replications, 0.95, 0, pool);
+        runner.run();
+        return runner;
+    }
+}
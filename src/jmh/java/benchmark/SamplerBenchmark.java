@@ -0,0 +1,59 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.distribution.DistributionConfig;
+import system.distribution.DistributionType;
+import system.distribution.Sampler;
+import system.random.RandomStream;
+import system.random.SplitMix64;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SamplerBenchmark {
+    @Param({"EXPONENTIAL", "ERLANG", "HYPEREXPONENTIAL", "LOGNORMAL", "DETERMINISTIC", "EMPIRICAL"})
+    private DistributionType type;
+
+    private final RandomStream random = new SplitMix64(1);
+    private Sampler sampler;
+
+    @Setup
+    public void createSampler() {
+        DistributionConfig config = switch (type) {
+            case ERLANG -> DistributionConfig.of(type, 3.0);
+            case HYPEREXPONENTIAL -> new DistributionConfig(type, List.of(1.0, 10.0), null, List.of(0.9, 0.1));
+            case LOGNORMAL -> DistributionConfig.of(type, 0.5);
+            case EMPIRICAL -> {
+                List<Double> values = new ArrayList<>();
+                for (int i = 0; i < 1000; i++) {
+                    values.add(i / 500.0);
+                }
+                yield DistributionConfig.empirical(values, null);
+            }
+            default -> DistributionConfig.of(type);
+        };
+        sampler = config.createSampler(1.0);
+    }
+
+    @Benchmark
+    public double sample() {
+        return sampler.sample(random);
+    }
+}
@@ -0,0 +1,61 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.component.Buffer;
+import system.component.Processor;
+import system.component.Request;
+import system.manager.SelectionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionManagerBenchmark {
+    @Param({"2", "100", "1000", "10000"})
+    private int processorCount;
+
+    private SelectionManager selectionManager;
+    private Buffer buffer;
+    private final Random random = new Random(1);
+    private int requestNumber = 0;
+
+    @Setup
+    public void createManager() {
+        List<Processor> processors = new ArrayList<>(processorCount);
+        for (int i = 0; i < processorCount; i++) {
+            processors.add(new Processor(i, 1.0 + random.nextDouble()));
+        }
+        buffer = new Buffer(1);
+        selectionManager = new SelectionManager(processors, buffer, 1);
+        for (int i = 0; i < processorCount; i++) {
+            buffer.putRequest(new Request(requestNumber++, 0, random.nextDouble()));
+            selectionManager.putToProcessor();
+        }
+    }
+
+    @Benchmark
+    public double releaseAndTake() {
+        selectionManager.selectNearestFreeEvent();
+        double time = selectionManager.freeProcessor();
+        buffer.putRequest(new Request(requestNumber++, 0, time));
+        selectionManager.putToProcessor();
+        return time;
+    }
+}
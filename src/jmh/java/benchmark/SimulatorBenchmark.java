@@ -0,0 +1,67 @@
+package benchmark;
+
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.simulator.Simulator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulatorBenchmark {
+    @Param({"100000"})
+    private int requestsCount;
+
+    @Param({"3"})
+    private int bufferCapacity;
+
+    @Param({"false"})
+    private boolean pipelined;
+
+    @Param({"1.0"})
+    private double sourceLambda;
+
+    private Simulator simulator;
+
+    @Setup(Level.Invocation)
+    public void createSimulator() {
+        ConfigJSON config = new ConfigJSON(requestsCount, bufferCapacity, List.of(sourceLambda, sourceLambda, sourceLambda),
+                List.of(1.0, 1.0));
+        simulator = new Simulator(new SimulationConfig(config));
+        if (pipelined) {
+            simulator.enableArrivalPipeline();
+        }
+    }
+
+    @Benchmark
+    public Simulator fullSimulation() {
+        simulator.fullSimulation();
+        simulator.stopArrivalPipeline();
+        return simulator;
+    }
+
+    @Benchmark
+    public Simulator stepByStep() {
+        while (simulator.simulationStep()) {
+            simulator.getLastEvent();
+        }
+        return simulator;
+    }
+}
@@ -0,0 +1,79 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import system.distribution.TraceSampler;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraceBenchmark {
+    private static final int BLOCK_SIZE = 64;
+
+    @Param({"10000000"})
+    private int recordCount;
+
+    private Path file;
+    private TraceSampler sampler;
+    private final double[] block = new double[BLOCK_SIZE];
+
+    @Setup(Level.Trial)
+    public void createTrace() throws IOException {
+        file = Files.createTempFile("trace", ".bin");
+        Random random = new Random(1);
+        ByteBuffer buffer = ByteBuffer.allocate(8192 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < recordCount; i++) {
+                buffer.putDouble(-Math.log(1 - random.nextDouble()));
+                if (!buffer.hasRemaining()) {
+                    stream.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+            }
+            stream.write(buffer.array(), 0, buffer.position());
+        }
+        sampler = TraceSampler.open(file, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteTrace() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public double sample() {
+        return sampler.sample(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCK_SIZE)
+    public double[] fill() {
+        sampler.fill(null, block);
+        return block;
+    }
+}
@@ -4,8 +4,14 @@ import com.google.gson.Gson;
 import system.component.Buffer;
 import system.component.Processor;
 import system.component.Source;
+import system.distribution.DistributionConfig;
+import system.distribution.ExponentialSampler;
+import system.distribution.Sampler;
 import system.manager.ProductionManager;
 import system.manager.SelectionManager;
+import system.random.AntitheticStream;
+import system.random.RandomStream;
+import system.random.SplitMix64;
 
 import java.io.File;
 import java.io.IOException;
@@ -24,6 +30,9 @@ public class SimulationConfig {
         private final int bufferCapacity;
         private final List<Double> sources;
         private final List<Double> processors;
+        private final Long seed;
+        private final List<DistributionConfig> sourceDistributions;
+        private final List<DistributionConfig> processorDistributions;
         private transient boolean onError;
 
         ConfigJSON() {
@@ -31,6 +40,9 @@ public class SimulationConfig {
             this.requestsCount = 1000;
             this.sources = List.of(1.0, 1.0, 1.0);
             this.processors = List.of(1.0, 1.0);
+            this.seed = null;
+            this.sourceDistributions = null;
+            this.processorDistributions = null;
             this.onError = false;
         }
 
@@ -45,10 +57,24 @@ public class SimulationConfig {
         }
 
         public ConfigJSON(int requestsCount, int bufferCapacity, List<Double> sources, List<Double> processors) {
+            this(requestsCount, bufferCapacity, sources, processors, null);
+        }
+
+        public ConfigJSON(int requestsCount, int bufferCapacity, List<Double> sources, List<Double> processors,
+                          Long seed) {
+            this(requestsCount, bufferCapacity, sources, processors, seed, null, null);
+        }
+
+        public ConfigJSON(int requestsCount, int bufferCapacity, List<Double> sources, List<Double> processors,
+                          Long seed, List<DistributionConfig> sourceDistributions,
+                          List<DistributionConfig> processorDistributions) {
             this.bufferCapacity = bufferCapacity;
             this.requestsCount = requestsCount;
             this.sources = new ArrayList<>(sources);
             this.processors = new ArrayList<>(processors);
+            this.seed = seed;
+            this.sourceDistributions = sourceDistributions == null ? null : new ArrayList<>(sourceDistributions);
+            this.processorDistributions = processorDistributions == null ? null : new ArrayList<>(processorDistributions);
             this.onError = false;
         }
 
@@ -68,21 +94,86 @@ public class SimulationConfig {
             return requestsCount;
         }
 
+        public Long getSeed() {
+            return seed;
+        }
+
+        public List<DistributionConfig> getSourceDistributions() {
+            return sourceDistributions == null ? null : new ArrayList<>(sourceDistributions);
+        }
+
+        public List<DistributionConfig> getProcessorDistributions() {
+            return processorDistributions == null ? null : new ArrayList<>(processorDistributions);
+        }
+
         public boolean createdOnError() {
             return onError;
         }
     }
 
+    private static final int SOURCES_STREAM = 0;
+    private static final int PROCESSORS_STREAM = 1;
+    private static final int ARRIVALS_STREAM = 2;
+    private static final int SPLITTING_STREAM = 3;
+
     private final ConfigJSON config;
+    private final int replication;
+    private final boolean commonRandomNumbers;
+    private final boolean antithetic;
+    private final boolean complemented;
 
     public SimulationConfig(ConfigJSON config) {
+        this(config, 0, false, false, false);
+    }
+
+    private SimulationConfig(ConfigJSON config, int replication, boolean commonRandomNumbers, boolean antithetic,
+                             boolean complemented) {
         this.config = config;
+        this.replication = replication;
+        this.commonRandomNumbers = commonRandomNumbers;
+        this.antithetic = antithetic;
+        this.complemented = complemented;
     }
 
     public ConfigJSON getConfig() {
         return config;
     }
 
+    public int getReplication() {
+        return replication;
+    }
+
+    public boolean isCommonRandomNumbers() {
+        return commonRandomNumbers;
+    }
+
+    public boolean isAntithetic() {
+        return antithetic;
+    }
+
+    public boolean isComplemented() {
+        return complemented;
+    }
+
+    public SimulationConfig forReplication(int replication) {
+        if (replication < 0) throw new IllegalArgumentException("Replication should not be negative");
+        return new SimulationConfig(config, replication, commonRandomNumbers, antithetic, complemented);
+    }
+
+    public SimulationConfig withCommonRandomNumbers() {
+        if (config.seed == null) throw new IllegalStateException("Seed should be set for common random numbers");
+        return new SimulationConfig(config, replication, true, antithetic, complemented);
+    }
+
+    public SimulationConfig withAntitheticSampling() {
+        return new SimulationConfig(config, replication, commonRandomNumbers, true, complemented);
+    }
+
+    public SimulationConfig antitheticPartner() {
+        if (!antithetic) throw new IllegalStateException("Antithetic sampling should be enabled");
+        return new SimulationConfig(config, replication, commonRandomNumbers, true, !complemented);
+    }
+
     public static ConfigJSON readJSON(String fileName) {
         Gson gson = new Gson();
         try {
@@ -107,29 +198,88 @@ public class SimulationConfig {
 
     public List<Source> createSources() {
         List<Source> sources = new ArrayList<>();
+        List<RandomStream> streams = createStreams(SOURCES_STREAM, config.sources.size());
         for (int i = 0; i < config.sources.size(); i++) {
-            sources.add(new Source(i, config.sources.get(i)));
+            double lambda = config.sources.get(i);
+            DistributionConfig distribution = getDistribution(config.sourceDistributions, i);
+            sources.add(new Source(i, lambda, streams.get(i), createSourceSampler(distribution, 1 / lambda)));
         }
         return sources;
     }
 
     public List<Processor> createProcessors() {
         List<Processor> processors = new ArrayList<>();
+        List<RandomStream> streams = createStreams(PROCESSORS_STREAM, config.processors.size());
         for (int i = 0; i < config.processors.size(); i++) {
-            processors.add(new Processor(i, config.processors.get(i)));
+            double lambda = config.processors.get(i);
+            DistributionConfig distribution = getDistribution(config.processorDistributions, i);
+            processors.add(new Processor(i, lambda, streams.get(i), distribution == null ? null : distribution.createSampler(lambda, antithetic)));
         }
         return processors;
     }
 
+    private Sampler createSourceSampler(DistributionConfig distribution, double mean) {
+        if (distribution == null) {
+            return antithetic ? new ExponentialSampler(mean, true) : null;
+        }
+        return distribution.createSampler(mean, antithetic);
+    }
+
+    private RandomStream createReplicationStream() {
+        if (config.seed == null) {
+            return new SplitMix64();
+        }
+        RandomStream master = new SplitMix64(config.seed);
+        RandomStream stream = master.split();
+        for (int i = 0; i < replication; i++) {
+            stream = master.split();
+        }
+        return stream;
+    }
+
+    private static DistributionConfig getDistribution(List<DistributionConfig> distributions, int index) {
+        return distributions == null || index >= distributions.size() ? null : distributions.get(index);
+    }
+
+    private List<RandomStream> createStreams(int branch, int count) {
+        RandomStream replicationStream = createReplicationStream();
+        RandomStream root = replicationStream.split();
+        for (int i = 0; i < branch; i++) {
+            root = replicationStream.split();
+        }
+        List<RandomStream> streams = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            streams.add(complemented ? new AntitheticStream(root.split()) : root.split());
+        }
+        return streams;
+    }
+
+    public RandomStream createSplittingStream() {
+        return createStreams(SPLITTING_STREAM, 1).get(0);
+    }
+
     public Buffer createBuffer() {
         return new Buffer(config.bufferCapacity);
     }
 
     public ProductionManager createProductionManager(Buffer buffer) {
-        return new ProductionManager(createSources(), buffer, config.requestsCount);
+        return createProductionManager(buffer, true);
+    }
+
+    public ProductionManager createProductionManager(Buffer buffer, boolean keepRequests) {
+        return createProductionManager(buffer, config.requestsCount, keepRequests);
+    }
+
+    public ProductionManager createProductionManager(Buffer buffer, int requestsCount, boolean keepRequests) {
+        RandomStream arrivalsStream = commonRandomNumbers || antithetic ? null : createStreams(ARRIVALS_STREAM, 1).get(0);
+        return new ProductionManager(createSources(), buffer, requestsCount, keepRequests, arrivalsStream);
     }
 
     public SelectionManager createSelectionManager(Buffer buffer) {
-        return new SelectionManager(createProcessors(), buffer, config.sources.size());
+        return createSelectionManager(buffer, true);
+    }
+
+    public SelectionManager createSelectionManager(Buffer buffer, boolean keepRequests) {
+        return new SelectionManager(createProcessors(), buffer, config.sources.size(), keepRequests);
     }
 }
@@ -17,9 +17,11 @@ public class SimulatorThread {
             this.thread = new Thread() {
                 @Override
                 public void run() {
-                    do {
-                        simulator.simulationStep();
-                    } while (!isInterrupted() && simulator.canContinue());
+                    boolean canContinue = true;
+                    while (canContinue && !isInterrupted()) {
+                        canContinue = simulator.headlessStep();
+                    }
+                    simulator.stopArrivalPipeline();
                 }
             };
         }
@@ -3,7 +3,6 @@ package gui.tab;
 import configs.SimulationConfig;
 import configs.SimulationConfig.ConfigJSON;
 import gui.MainGUI;
-import gui.SimulatorThread;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
@@ -11,24 +10,19 @@ import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
-import system.component.Processor;
-import system.component.Request;
-import system.manager.ProductionManager;
-import system.manager.SelectionManager;
-import system.simulator.Simulator;
+import system.analyzer.ParameterSweep;
+import system.analyzer.ParameterSweep.Parameter;
+import system.analyzer.SweepResult;
+import system.analyzer.VarianceReduction;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.ArrayList;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class AnalyzeTab implements TabCreator {
-    private enum SelectorType {
-        SOURCE, PROCESSOR, BUFFER
-    }
-
     private enum SeriesType {
         REJECT_PROBABILITY, LIFE_TIME, PROCESSORS_USING_RATE
     }
@@ -38,14 +32,22 @@ public class AnalyzeTab implements TabCreator {
         void analyzeComplete();
     }
 
+    @FunctionalInterface
+    private interface OnVarianceReduction {
+        void varianceReductionComplete(VarianceReduction reduction);
+    }
+
     @FunctionalInterface
     private interface OnSeriesUpdate {
         void seriesUpdate(SeriesType type, double x, double y);
     }
 
+    private static final int VARIANCE_REDUCTION_REPLICATIONS = 8;
+    private static final NumberFormat FACTOR_FORMAT = new DecimalFormat("#0.0");
+
     private final JPanel root;
     private final boolean debug;
-    private final ArrayList<SimulatorThread> simToAnalyze = new ArrayList<>();
+    private ParameterSweep sweep = null;
     private Thread analyzeThread = null;
 
     public AnalyzeTab(LayoutManager layoutManager, boolean debug) {
@@ -62,10 +64,11 @@ public class AnalyzeTab implements TabCreator {
         JFreeChart processorsUsingRateChart = createChart("ProcessorsUsingRate", "Count", "Rate", null);
         root.add(new ChartPanel(processorsUsingRateChart), "wrap");
         //[COM]{ELEMENT} Tab Analyze: selection of variable element combobox
-        JComboBox<String> selectorCombobox = new JComboBox<>(new String[]{"Source", "Processor", "Buffer"});
+        JComboBox<String> selectorCombobox = new JComboBox<>(new String[]{"Source", "Processor", "Buffer",
+                "Source lambda", "Processor lambda", "Requests"});
         root.add(selectorCombobox);
         //[COM]{ELEMENT} Tab Analyze: "from" text field
-        root.add(new JLabel("From"), "split 8");
+        root.add(new JLabel("From"), "split 10");
         JTextField fromTextField = new JTextField("10");
         root.add(fromTextField);
         //[COM]{ELEMENT} Tab Analyze: "to" text field
@@ -76,19 +79,28 @@ public class AnalyzeTab implements TabCreator {
         root.add(new JLabel("Lambda"));
         JTextField lambdaTextField = new JTextField("1.0");
         root.add(lambdaTextField);
-        //[COM]{ELEMENT} Tab Analyze: visualization step for charts text field -- threads count
-        root.add(new JLabel("VStep"));
-        JTextField visualStepTextField = new JTextField("5");
-        root.add(visualStepTextField);
-        //[COM]{ACTION} Tab Analyze: combobox change buffer->!lambda
-        selectorCombobox.addActionListener(e -> lambdaTextField.setEnabled(selectorCombobox.getSelectedIndex() != 2));
+        //[COM]{ELEMENT} Tab Analyze: step of varied parameter text field
+        root.add(new JLabel("Step"));
+        JTextField stepTextField = new JTextField("1");
+        root.add(stepTextField);
+        //[COM]{ELEMENT} Tab Analyze: common random numbers for all points checkbox
+        JCheckBox commonRandomNumbersCheckBox = new JCheckBox("CRN");
+        root.add(commonRandomNumbersCheckBox);
+        //[COM]{ELEMENT} Tab Analyze: antithetic replication pairs checkbox
+        JCheckBox antitheticCheckBox = new JCheckBox("Antithetic");
+        root.add(antitheticCheckBox);
+        //[COM]{ACTION} Tab Analyze: combobox change !(source|processor)->!lambda
+        selectorCombobox.addActionListener(e -> lambdaTextField.setEnabled(selectorCombobox.getSelectedIndex() < 2));
         //[COM]{ELEMENT} Tab Analyze: stop button
         JButton stopButton = new JButton("Stop");
         stopButton.setEnabled(false);
-        root.add(stopButton, "split 2");
+        root.add(stopButton, "split 3");
         //[COM]{ELEMENT} Tab Analyze: start button
         JButton startButton = new JButton("Launch");
         root.add(startButton);
+        //[COM]{ELEMENT} Tab Analyze: achieved variance reduction label
+        JLabel varianceReductionLabel = new JLabel();
+        root.add(varianceReductionLabel);
         //[COM]{ACTION} Tab Analyze: stop button
         stopButton.addActionListener(e -> {
             stopAnalyze();
@@ -112,22 +124,33 @@ public class AnalyzeTab implements TabCreator {
 
         //[COM]{ACTION} Tab Analyze: start button
         startButton.addActionListener(e -> {
+            Parameter parameter = Parameter.values()[selectorCombobox.getSelectedIndex()];
+            double from = Double.parseDouble(fromTextField.getText());
+            double to = Double.parseDouble(toTextField.getText());
+            double step = Double.parseDouble(stepTextField.getText());
+            double lambda = Double.parseDouble(lambdaTextField.getText());
+
+            ConfigJSON config = SimulationConfig.readJSON(MainGUI.getDefaultConfigPath(debug));
+            sweep = new ParameterSweep(config, parameter, from, to, step);
             startButton.setEnabled(false);
             stopButton.setEnabled(true);
-            SelectorType selector = SelectorType.values()[selectorCombobox.getSelectedIndex()];
-            int minCount = Integer.parseInt(fromTextField.getText());
-            int maxCount = Integer.parseInt(toTextField.getText());
-            double lambda = Double.parseDouble(lambdaTextField.getText());
-            int visualisationStep = Integer.parseInt(visualStepTextField.getText());
+            if (parameter == Parameter.SOURCE_COUNT || parameter == Parameter.PROCESSOR_COUNT) {
+                sweep.setComponentLambda(lambda);
+            }
+            sweep.setCommonRandomNumbers(commonRandomNumbersCheckBox.isSelected());
+            sweep.setAntithetic(antitheticCheckBox.isSelected());
 
-            String name = getSeriesName(selector, minCount, maxCount, lambda);
+            String name = getSeriesName(parameter, from, to, lambda);
             for (SeriesType type : series.keySet()) {
                 XYSeries xySeries = series.get(type);
                 xySeries.clear();
                 xySeries.setKey(name);
             }
 
-            analyze(selector, minCount, maxCount, lambda, visualisationStep,
+            varianceReductionLabel.setText(null);
+            analyze(sweep, commonRandomNumbersCheckBox.isSelected() || antitheticCheckBox.isSelected(),
+                    reduction -> SwingUtilities.invokeLater(
+                            () -> varianceReductionLabel.setText(getVarianceReductionText(reduction))),
                     (type, index, value) -> {
                         XYSeries xySeries = series.get(type);
                         if (xySeries != null) {
@@ -148,155 +171,78 @@ public class AnalyzeTab implements TabCreator {
     }
 
     private void analyze(
-            SelectorType selector,
-            int minCount,
-            int maxCount,
-            double lambda,
-            int visualisationStep,
+            ParameterSweep sweep,
+            boolean varianceReduction,
+            OnVarianceReduction onVarianceReduction,
             OnSeriesUpdate onSeriesUpdate,
             OnAnalyzeComplete onAnalyzeComplete
     ) {
-        analyzeThread = new Thread() {
-            private void checkInterruption() throws InterruptedException {
-                if (isInterrupted()) {
-                    throw new InterruptedException();
-                }
-            }
-
-            @Override
-            public void run() {
-                ArrayList<SimulatorThread> buffer = new ArrayList<>();
-                ConfigJSON config = SimulationConfig.readJSON(MainGUI.getDefaultConfigPath(debug));
-                try {
-                    for (int i = minCount; i <= maxCount; i++) {
-                        checkInterruption();
-                        List<Double> sources = getSources(selector, i, config, lambda);
-                        List<Double> processors = getProcessors(selector, i, config, lambda);
-                        int bufferCapacity = getBufferCapacity(selector, i, config);
-                        ConfigJSON configJSON = new ConfigJSON(config.getRequestsCount(), bufferCapacity, sources, processors);
-                        Simulator tmpSimulator = new Simulator(new SimulationConfig(configJSON));
-                        SimulatorThread tmpSimulatorThread = new SimulatorThread(tmpSimulator, true);
-                        buffer.add(tmpSimulatorThread);
-                        tmpSimulatorThread.start();
-                        if (i >= maxCount || buffer.size() >= visualisationStep) {
-                            checkInterruption();
-                            simToAnalyze.addAll(buffer);
-                            buffer.clear();
-                            for (int ind = 0; ind  < simToAnalyze.size(); ind++) {
-                                checkInterruption();
-                                SimulatorThread simulatorThread = simToAnalyze.get(ind);
-                                simulatorThread.join();
-                                Simulator simulator = simulatorThread.getSimulator();
-                                int index = i - simToAnalyze.size() + ind + 1;
-                                addSeries(index, onSeriesUpdate, simulator, config.getRequestsCount());
-                            }
-                            checkInterruption();
-                            simToAnalyze.clear();
-                        }
-                    }
-                } catch (InterruptedException exception) {
-                    exception.printStackTrace();
-                    Thread.currentThread().interrupt();
-                } finally {
-                    onAnalyzeComplete.analyzeComplete();
-                    for (SimulatorThread simulatorThread: buffer) {
-                        simulatorThread.interrupt();
+        analyzeThread = new Thread(() -> {
+            try {
+                sweep.run(result -> addSeries(result, onSeriesUpdate));
+                if (varianceReduction && !sweep.isCancelled()) {
+                    VarianceReduction reduction = sweep.analyzeVarianceReduction(VARIANCE_REDUCTION_REPLICATIONS);
+                    if (!sweep.isCancelled()) {
+                        onVarianceReduction.varianceReductionComplete(reduction);
                     }
-                    buffer.clear();
                 }
+            } finally {
+                onAnalyzeComplete.analyzeComplete();
             }
-        };
+        });
         analyzeThread.start();
     }
 
     private void stopAnalyze() {
+        if (sweep != null) {
+            sweep.cancel();
+            sweep = null;
+        }
         if (analyzeThread != null) {
             analyzeThread.interrupt();
             analyzeThread = null;
         }
-        for (SimulatorThread simulator : simToAnalyze) {
-            simulator.interrupt();
-        }
-        simToAnalyze.clear();
-    }
-
-    private String getSeriesName(SelectorType selector, int minCount, int maxCount, double lambda) {
-        StringBuilder stringBuilder = new StringBuilder();
-        switch (selector) {
-            case SOURCE -> {
-                stringBuilder.append("Source[");
-                stringBuilder.append(minCount);
-                stringBuilder.append(":");
-                stringBuilder.append(maxCount);
-                stringBuilder.append("], lambda=");
-                stringBuilder.append(lambda);
-            }
-            case PROCESSOR -> {
-                stringBuilder.append("Processor[");
-                stringBuilder.append(minCount);
-                stringBuilder.append(":");
-                stringBuilder.append(maxCount);
-                stringBuilder.append("], lambda=");
-                stringBuilder.append(lambda);
-            }
-            case BUFFER -> {
-                stringBuilder.append("BufferCapacity[");
-                stringBuilder.append(minCount);
-                stringBuilder.append(":");
-                stringBuilder.append(maxCount);
-                stringBuilder.append("]");
-            }
-            default -> stringBuilder.append("NONE");
-        }
-        return stringBuilder.toString();
     }
 
-    private void addSeries(int index, OnSeriesUpdate onSeriesUpdate, Simulator simulator, int requestCount) {
-        SelectionManager selectionManager = simulator.getSelectionManager();
-        ProductionManager productionManager = simulator.getProductionManager();
-        double rejectProbability = (double) productionManager.getFullRejectCount() / requestCount;
-        onSeriesUpdate.seriesUpdate(SeriesType.REJECT_PROBABILITY, index, rejectProbability);
-        double totalRequestsLifeTime = 0;
-        for (List<Request> requests : selectionManager.getSuccessRequests()) {
-            totalRequestsLifeTime += requests.stream().mapToDouble(Request::getLifeTime).sum();
+    private String getVarianceReductionText(VarianceReduction reduction) {
+        StringBuilder stringBuilder = new StringBuilder("Variance reduction:");
+        if (reduction.hasCommonRandomNumbers()) {
+            stringBuilder.append(" CRN x");
+            stringBuilder.append(FACTOR_FORMAT.format(reduction.commonRandomNumbersFactor()));
         }
-        double avgLifeTime = totalRequestsLifeTime / selectionManager.getFullSuccessCount();
-        onSeriesUpdate.seriesUpdate(SeriesType.LIFE_TIME, index, avgLifeTime);
-        double totalAvgProcessorUsingRate = 0;
-        for (Processor processor : selectionManager.getProcessors()) {
-            totalAvgProcessorUsingRate += processor.getWorkTime() / simulator.getEndTime();
+        if (reduction.hasAntithetic()) {
+            stringBuilder.append(" antithetic x");
+            stringBuilder.append(FACTOR_FORMAT.format(reduction.antitheticFactor()));
         }
-        double avgProcessorsUsingRate = totalAvgProcessorUsingRate / selectionManager.getProcessors().size();
-        onSeriesUpdate.seriesUpdate(SeriesType.PROCESSORS_USING_RATE, index, avgProcessorsUsingRate);
+        return stringBuilder.toString();
     }
 
-    private List<Double> getSources(SelectorType selector, int iter, ConfigJSON config, double val) {
-        if (selector == SelectorType.SOURCE) {
-            ArrayList<Double> sources = new ArrayList<>();
-            for (int j = 0; j < iter; j++) {
-                sources.add(val);
-            }
-            return sources;
+    private String getSeriesName(Parameter parameter, double from, double to, double lambda) {
+        StringBuilder stringBuilder = new StringBuilder();
+        switch (parameter) {
+            case SOURCE_COUNT -> stringBuilder.append("Source");
+            case PROCESSOR_COUNT -> stringBuilder.append("Processor");
+            case BUFFER_CAPACITY -> stringBuilder.append("BufferCapacity");
+            case SOURCE_LAMBDA -> stringBuilder.append("SourceLambda");
+            case PROCESSOR_LAMBDA -> stringBuilder.append("ProcessorLambda");
+            case REQUESTS_COUNT -> stringBuilder.append("RequestsCount");
         }
-        return config.getSources();
-    }
-
-    private List<Double> getProcessors(SelectorType selector, int iter, ConfigJSON config, double val) {
-        if (selector == SelectorType.PROCESSOR) {
-            List<Double> processors = new ArrayList<>();
-            for (int j = 0; j < iter; j++) {
-                processors.add(val);
-            }
-            return processors;
+        stringBuilder.append("[");
+        stringBuilder.append(from);
+        stringBuilder.append(":");
+        stringBuilder.append(to);
+        stringBuilder.append("]");
+        if (parameter == Parameter.SOURCE_COUNT || parameter == Parameter.PROCESSOR_COUNT) {
+            stringBuilder.append(", lambda=");
+            stringBuilder.append(lambda);
         }
-        return config.getProcessors();
+        return stringBuilder.toString();
     }
 
-    private int getBufferCapacity(SelectorType selector, int iter, ConfigJSON config) {
-        if (selector == SelectorType.BUFFER) {
-            return iter;
-        }
-        return config.getBufferCapacity();
+    private void addSeries(SweepResult result, OnSeriesUpdate onSeriesUpdate) {
+        onSeriesUpdate.seriesUpdate(SeriesType.REJECT_PROBABILITY, result.value(), result.rejectProbability());
+        onSeriesUpdate.seriesUpdate(SeriesType.LIFE_TIME, result.value(), result.lifeTime());
+        onSeriesUpdate.seriesUpdate(SeriesType.PROCESSORS_USING_RATE, result.value(), result.processorsUsingRate());
     }
 
     @Override
@@ -5,6 +5,7 @@ import gui.MainGUI;
 import gui.SimulatorThread;
 import gui.TableHelper;
 import system.analyzer.Analyzer;
+import system.analyzer.BatchMeansEstimator;
 import system.analyzer.RequestCountAnalyzer;
 import system.simulator.Simulator;
 
@@ -27,6 +28,9 @@ public class AutoTab implements TabCreator {
         void progressChanged(Integer progress);
     }
 
+    private static final long PROGRESS_UPDATE_DELAY = 20;
+    private static final double BATCH_MEANS_CONFIDENCE = 0.95;
+
     private Thread lineMover = null;
     private SimulatorThread autoSimulatorThread = null;
     private final boolean debug;
@@ -55,7 +59,7 @@ public class AutoTab implements TabCreator {
         //[COM]{ELEMENT} Tab Auto: stop button
         JButton stopButton = new JButton("Stop");
         stopButton.setEnabled(false);
-        root.add(stopButton, "split 4");
+        root.add(stopButton, "split 6");
         //[COM]{ELEMENT} Tab Auto: start button
         JButton startButton = new JButton("Start Auto");
         root.add(startButton);
@@ -66,8 +70,23 @@ public class AutoTab implements TabCreator {
         JTextField n0TextField = new JTextField("100");
         n0TextField.setEnabled(false);
         root.add(n0TextField);
+        //[COM]{ELEMENT} Tab Auto: stop by batch means precision checkbox
+        JCheckBox batchMeansCheckBox = new JCheckBox("Batch means");
+        root.add(batchMeansCheckBox);
+        //[COM]{ELEMENT} Tab Auto: batch means relative precision text field
+        JTextField precisionTextField = new JTextField("0.05");
+        precisionTextField.setEnabled(false);
+        root.add(precisionTextField);
         //[COM]{ACTION} Tab Auto: use N0 checkbox
-        useN0CheckBox.addActionListener(e -> n0TextField.setEnabled(useN0CheckBox.isSelected()));
+        useN0CheckBox.addActionListener(e -> {
+            n0TextField.setEnabled(useN0CheckBox.isSelected());
+            batchMeansCheckBox.setEnabled(!useN0CheckBox.isSelected());
+        });
+        //[COM]{ACTION} Tab Auto: batch means checkbox
+        batchMeansCheckBox.addActionListener(e -> {
+            precisionTextField.setEnabled(batchMeansCheckBox.isSelected());
+            useN0CheckBox.setEnabled(!batchMeansCheckBox.isSelected());
+        });
         //[COM]{ACTION} Tab Auto: start button
         startButton.addActionListener(e -> {
             SimulationConfig simulationConfig = MainGUI.useDefaultConfigFile(debug);
@@ -81,7 +100,14 @@ public class AutoTab implements TabCreator {
                 progressBar.setMaximum(N0);
             } else {
                 N0 = null;
-                Simulator simulator = new Simulator(simulationConfig);
+                Simulator simulator = new Simulator(simulationConfig, false);
+                if (batchMeansCheckBox.isSelected()) {
+                    double precision = Double.parseDouble(precisionTextField.getText());
+                    simulator.setListener(new BatchMeansEstimator(precision, BATCH_MEANS_CONFIDENCE));
+                }
+                if (Runtime.getRuntime().availableProcessors() > 1) {
+                    simulator.enableArrivalPipeline();
+                }
                 autoSimulatorThread = new SimulatorThread(simulator, true);
                 progressBar.setMaximum(simulationConfig.getConfig().getRequestsCount());
             }
@@ -129,8 +155,16 @@ public class AutoTab implements TabCreator {
                 simulatorThread.start();
                 while (true) {
                     if (simulatorThread.isInterrupted()) return;
-                    if (!simulatorThread.isAlive()) break;
+                    if (!simulatorThread.isAlive()) {
+                        onProgressChanged.progressChanged(null);
+                        break;
+                    }
                     onProgressChanged.progressChanged(simulatorThread.getSimulator().getProgress());
+                    try {
+                        Thread.sleep(PROGRESS_UPDATE_DELAY);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
                 }
             }
 
@@ -5,8 +5,7 @@ import gui.MainGUI;
 import gui.SimulatorThread;
 import gui.TableHelper;
 import system.analyzer.Analyzer;
-import system.component.Buffer;
-import system.component.Processor;
+import system.component.BufferSnapshot;
 import system.component.Request;
 import system.simulator.Simulator;
 import system.simulator.SimulatorEvent;
@@ -15,6 +14,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.util.List;
 
 public class StepTab implements TabCreator {
     public interface OnAnalyzeStart {
@@ -141,9 +141,10 @@ public class StepTab implements TabCreator {
 
     private void processPackage(SimulatorEvent event, JTable bufferTable, JTextArea logTextArea) {
         if (!skipState) {
-            Buffer buffer = event.getBuffer();
+            BufferSnapshot buffer = event.getBuffer();
+            List<Request> requests = buffer.getList();
             for (Request request : buffer.getRequestsPackage()) {
-                int index = buffer.getList().indexOf(request);
+                int index = requests.indexOf(request);
                 bufferTable.setValueAt((bufferTable.getValueAt(index, 1) + "P"), index, 1);
             }
         }
@@ -152,26 +153,24 @@ public class StepTab implements TabCreator {
 
     private void processTake(SimulatorEvent event, JTable sourcesTable, JTable bufferTable, JTable processorsTable, JTextArea logTextArea) {
         Request request = event.getRequest();
-        Processor processor = event.getProcessor();
-        Buffer buffer = event.getBuffer();
+        int processorNumber = event.getProcessorNumber();
         if (!skipState) {
-            if (buffer != null) {
-                TableHelper.clearRowWithMove(bufferTable, event.getBuffer().getTakeIndex());
+            if (event.getTakeIndex() >= 0) {
+                TableHelper.clearRowWithMove(bufferTable, event.getTakeIndex());
             } else {
                 sourcesTable.setValueAt(null, request.getSourceNumber(), 1);
                 sourcesTable.setValueAt(null, request.getSourceNumber(), 2);
             }
-            processorsTable.setValueAt(request.getSourceNumber() + "." + request.getNumber(), processor.getNumber(), 1);
-            processorsTable.setValueAt(formatter.format(request.getTime() + request.getTimeInBuffer()), processor.getNumber(), 2);
-            processorsTable.setValueAt(null, processor.getNumber(), 3);
+            processorsTable.setValueAt(request.getSourceNumber() + "." + request.getNumber(), processorNumber, 1);
+            processorsTable.setValueAt(formatter.format(request.getTime() + request.getTimeInBuffer()), processorNumber, 2);
+            processorsTable.setValueAt(null, processorNumber, 3);
         }
         logTextArea.append(event.getLog());
     }
 
     private void processBuffer(SimulatorEvent event, JTable sourcesTable, JTable bufferTable, JTextArea logArea) {
         Request request = event.getRequest();
-        Buffer buffer = event.getBuffer();
-        int row = buffer.getSize() - 1;
+        int row = event.getBufferSize() - 1;
         if (!skipState) {
             sourcesTable.setValueAt(null, request.getSourceNumber(), 1);
             sourcesTable.setValueAt(null, request.getSourceNumber(), 2);
@@ -191,9 +190,8 @@ public class StepTab implements TabCreator {
     }
 
     private void processRelease(SimulatorEvent event, JTable processorsTable, JTextArea logArea) {
-        Processor processor = event.getProcessor();
         if (!skipState) {
-            processorsTable.setValueAt(formatter.format(processor.getProcessTime()), processor.getNumber(), 3);
+            processorsTable.setValueAt(formatter.format(event.getProcessTime()), event.getProcessorNumber(), 3);
         }
         logArea.append(event.getLog());
     }
@@ -1,10 +1,10 @@
 package system.analyzer;
 
 import system.component.Processor;
-import system.component.Request;
 import system.component.Source;
 import system.manager.ProductionManager;
 import system.manager.SelectionManager;
+import system.manager.SourceStatistics;
 import system.simulator.Simulator;
 
 import java.text.DecimalFormat;
@@ -61,22 +61,28 @@ public class Analyzer {
         return processorResultsTable;
     }
 
+    List<AnalyzerResults> getSourcesResult() {
+        return sourcesResult;
+    }
+
+    List<AnalyzerResults> getProcessorsResult() {
+        return processorsResult;
+    }
+
     private void analyzeSources() {
         ProductionManager pm = simulator.getProductionManager();
-        List<Source> sources = pm.getSources();
-        List<List<Request>> rejected = pm.getRejectedRequests();
-        SelectionManager sm = simulator.getSelectionManager();
-        List<List<Request>> success = sm.getSuccessRequests();
-        for (Source s : sources) {
+        List<SourceStatistics> statistics = simulator.getSelectionManager().getSuccessStatistics();
+        for (Source s : pm.getSources()) {
             AnalyzerResults r = new AnalyzerResults();
             r.number = s.getNumber();
             r.requestCount = s.getRequestCount();
-            r.rejectProbability = ((double) rejected.get(r.number).size()) / ((double) r.requestCount);
-            r.lifeTime = success.get(r.number).stream().mapToDouble(Request::getLifeTime).sum() / r.requestCount;
-            r.bufferTime = success.get(r.number).stream().mapToDouble(Request::getTimeInBuffer).sum() / r.requestCount;
-            r.processTime = success.get(r.number).stream().mapToDouble(Request::getTimeInProcessor).sum() / r.requestCount;
-            r.bufferTimeDispersion = success.get(r.number).stream().mapToDouble(a -> Math.pow((a.getTimeInBuffer() - r.bufferTime), 2) / (r.requestCount - 1)).sum();
-            r.processTimeDispersion = success.get(r.number).stream().mapToDouble(a -> Math.pow((a.getTimeInProcessor() - r.processTime), 2) / (r.requestCount - 1)).sum();
+            SourceStatistics success = statistics.get(r.number);
+            r.rejectProbability = ((double) pm.getRejectCount(r.number)) / ((double) r.requestCount);
+            r.lifeTime = success.getLifeTime().getSum() / r.requestCount;
+            r.bufferTime = success.getBufferTime().getSum() / r.requestCount;
+            r.processTime = success.getProcessTime().getSum() / r.requestCount;
+            r.bufferTimeDispersion = success.getBufferTime().getSquaredDeviation(r.bufferTime) / (r.requestCount - 1);
+            r.processTimeDispersion = success.getProcessTime().getSquaredDeviation(r.processTime) / (r.requestCount - 1);
             sourcesResult.add(r);
         }
     }
@@ -0,0 +1,168 @@
+package system.analyzer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import system.manager.ProductionManager;
+import system.manager.SelectionManager;
+import system.simulator.SimulationListener;
+import system.simulator.Simulator;
+import system.util.StudentDistribution;
+
+public class BatchMeansEstimator implements SimulationListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchMeansEstimator.class);
+    private static final int MIN_BATCHES = 32;
+    private static final int MAX_BATCHES = 2 * MIN_BATCHES;
+    private static final int INITIAL_BATCH_SIZE = 64;
+    private static final int WARM_UP_BATCHES = 1;
+    private static final double INDEPENDENCE_QUANTILE = 1.645;
+
+    private final double relativePrecision;
+    private final double confidence;
+    private final long[] resolvedCounts = new long[MAX_BATCHES];
+    private final long[] rejectCounts = new long[MAX_BATCHES];
+    private final long[] successCounts = new long[MAX_BATCHES];
+    private final double[] lifeTimeSums = new double[MAX_BATCHES];
+    private int batchCount = 0;
+    private long batchSize = INITIAL_BATCH_SIZE;
+    private long resolvedCount = 0;
+    private long rejectCount = 0;
+    private long successCount = 0;
+    private double lifeTimeSum = 0;
+    private boolean precise = false;
+
+    public BatchMeansEstimator(double relativePrecision, double confidence) {
+        if (!(relativePrecision > 0)) throw new IllegalArgumentException("Relative precision should be greater than 0");
+        if (!(confidence > 0 && confidence < 1)) throw new IllegalArgumentException("Confidence should be in (0, 1)");
+        this.relativePrecision = relativePrecision;
+        this.confidence = confidence;
+    }
+
+    @Override
+    public boolean stepCompleted(Simulator simulator) {
+        ProductionManager productionManager = simulator.getProductionManager();
+        SelectionManager selectionManager = simulator.getSelectionManager();
+        long rejects = productionManager.getFullRejectCount();
+        long successes = selectionManager.getFullSuccessCount();
+        if (rejects + successes - resolvedCount < batchSize) {
+            return true;
+        }
+        double lifeTime = selectionManager.getLifeTimeSum();
+        resolvedCounts[batchCount] = rejects + successes - resolvedCount;
+        rejectCounts[batchCount] = rejects - rejectCount;
+        successCounts[batchCount] = successes - successCount;
+        lifeTimeSums[batchCount] = lifeTime - lifeTimeSum;
+        batchCount++;
+        resolvedCount = rejects + successes;
+        rejectCount = rejects;
+        successCount = successes;
+        lifeTimeSum = lifeTime;
+        if (batchCount == MAX_BATCHES) {
+            mergeBatches();
+        }
+        precise = batchCount - WARM_UP_BATCHES >= MIN_BATCHES && checkPrecision();
+        if (precise) {
+            LOGGER.info("Batch means stop after {} requests: reject probability {}, lifetime {}, {} batches of {}",
+                    resolvedCount, getRejectProbability(), getLifeTime(), batchCount, batchSize);
+        }
+        return !precise;
+    }
+
+    private void mergeBatches() {
+        batchCount /= 2;
+        for (int i = 0; i < batchCount; i++) {
+            resolvedCounts[i] = resolvedCounts[2 * i] + resolvedCounts[2 * i + 1];
+            rejectCounts[i] = rejectCounts[2 * i] + rejectCounts[2 * i + 1];
+            successCounts[i] = successCounts[2 * i] + successCounts[2 * i + 1];
+            lifeTimeSums[i] = lifeTimeSums[2 * i] + lifeTimeSums[2 * i + 1];
+        }
+        batchSize *= 2;
+    }
+
+    private boolean checkPrecision() {
+        return isPrecise(getRejects(), resolvedCounts) && isPrecise(lifeTimeSums, successCounts);
+    }
+
+    private boolean isPrecise(double[] sums, long[] counts) {
+        ConfidenceInterval interval = createInterval(sums, counts);
+        return interval.halfWidth() > 0 && interval.isWithin(relativePrecision) &&
+                getLagCorrelation(getResiduals(sums, counts, interval.mean())) <
+                        INDEPENDENCE_QUANTILE / Math.sqrt(batchCount - WARM_UP_BATCHES);
+    }
+
+    private double[] getRejects() {
+        double[] rejects = new double[batchCount];
+        for (int i = 0; i < batchCount; i++) {
+            rejects[i] = rejectCounts[i];
+        }
+        return rejects;
+    }
+
+    private double[] getResiduals(double[] sums, long[] counts, double mean) {
+        double[] residuals = new double[batchCount - WARM_UP_BATCHES];
+        for (int i = WARM_UP_BATCHES; i < batchCount; i++) {
+            residuals[i - WARM_UP_BATCHES] = sums[i] - mean * counts[i];
+        }
+        return residuals;
+    }
+
+    private static double getLagCorrelation(double[] residuals) {
+        double mean = 0;
+        for (double residual : residuals) {
+            mean += residual;
+        }
+        mean /= residuals.length;
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < residuals.length; i++) {
+            double deviation = residuals[i] - mean;
+            variance += deviation * deviation;
+            if (i > 0) {
+                covariance += deviation * (residuals[i - 1] - mean);
+            }
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+    private ConfidenceInterval createInterval(double[] sums, long[] counts) {
+        int from = Math.min(WARM_UP_BATCHES, batchCount);
+        int count = batchCount - from;
+        double sum = 0;
+        long total = 0;
+        for (int i = from; i < batchCount; i++) {
+            sum += sums[i];
+            total += counts[i];
+        }
+        double mean = total == 0 ? Double.NaN : sum / total;
+        if (count < 2) {
+            return new ConfidenceInterval(mean, Double.NaN);
+        }
+        double squaredResidual = 0;
+        for (int i = from; i < batchCount; i++) {
+            double residual = sums[i] - mean * counts[i];
+            squaredResidual += residual * residual;
+        }
+        double averageCount = (double) total / count;
+        double quantile = StudentDistribution.quantile((1 + confidence) / 2, count - 1);
+        return new ConfidenceInterval(mean, quantile * Math.sqrt(squaredResidual / (count - 1) / count) / averageCount);
+    }
+
+    public boolean isPrecise() {
+        return precise;
+    }
+
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    public long getBatchSize() {
+        return batchSize;
+    }
+
+    public ConfidenceInterval getRejectProbability() {
+        return createInterval(getRejects(), resolvedCounts);
+    }
+
+    public ConfidenceInterval getLifeTime() {
+        return createInterval(lifeTimeSums, successCounts);
+    }
+}
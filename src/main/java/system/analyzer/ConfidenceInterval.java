@@ -0,0 +1,15 @@
+package system.analyzer;
+
+public record ConfidenceInterval(double mean, double halfWidth) {
+    public double lower() {
+        return mean - halfWidth;
+    }
+
+    public double upper() {
+        return mean + halfWidth;
+    }
+
+    public boolean isWithin(double relativeHalfWidth) {
+        return Double.isFinite(halfWidth) && Double.isFinite(mean) && halfWidth <= relativeHalfWidth * Math.abs(mean);
+    }
+}
@@ -0,0 +1,215 @@
+package system.analyzer;
+
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import system.component.Processor;
+import system.manager.SelectionManager;
+import system.random.SplitMix64;
+import system.simulator.Simulator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class ParameterSweep {
+    public enum Parameter {
+        SOURCE_COUNT, PROCESSOR_COUNT, BUFFER_CAPACITY, SOURCE_LAMBDA, PROCESSOR_LAMBDA, REQUESTS_COUNT;
+
+        public boolean isLambda() {
+            return this == SOURCE_LAMBDA || this == PROCESSOR_LAMBDA;
+        }
+    }
+
+    @FunctionalInterface
+    public interface OnPointComplete {
+        void pointCompleted(SweepResult result);
+    }
+
+    private static final double RANGE_EPSILON = 1e-9;
+
+    private final ConfigJSON config;
+    private final Parameter parameter;
+    private final double from;
+    private final double step;
+    private final int pointCount;
+    private final ForkJoinPool pool;
+    private double componentLambda;
+    private int componentIndex = -1;
+    private Long seed;
+    private boolean commonRandomNumbers = false;
+    private boolean antithetic = false;
+    private volatile boolean cancelled = false;
+    private volatile VarianceReductionAnalyzer varianceReductionAnalyzer;
+
+    public ParameterSweep(ConfigJSON config, Parameter parameter, double from, double to, double step) {
+        this(config, parameter, from, to, step, ForkJoinPool.commonPool());
+    }
+
+    public ParameterSweep(ConfigJSON config, Parameter parameter, double from, double to, double step, ForkJoinPool pool) {
+        if (!(step > 0)) throw new IllegalArgumentException("Step should be greater than 0");
+        if (!(to >= from)) throw new IllegalArgumentException("Range end should not be less than range start");
+        if (parameter.isLambda() ? !(from > 0) : from < 1) {
+            throw new IllegalArgumentException("Range start should be greater than 0");
+        }
+        if (!parameter.isLambda() && (from != Math.rint(from) || step != Math.rint(step))) {
+            throw new IllegalArgumentException("Range start and step should be integer for count parameter");
+        }
+        this.config = config;
+        this.parameter = parameter;
+        this.from = from;
+        this.step = step;
+        this.pointCount = (int) Math.floor((to - from) / step + RANGE_EPSILON) + 1;
+        this.pool = pool;
+        this.componentLambda = parameter == Parameter.PROCESSOR_COUNT ?
+                config.getProcessors().get(0) : config.getSources().get(0);
+        this.seed = config.getSeed();
+    }
+
+    public void setComponentLambda(double componentLambda) {
+        if (!(componentLambda > 0)) throw new IllegalArgumentException("Lambda should be greater than 0");
+        this.componentLambda = componentLambda;
+    }
+
+    public void setComponentIndex(int componentIndex) {
+        int size = parameter == Parameter.PROCESSOR_LAMBDA ? config.getProcessors().size() : config.getSources().size();
+        if (componentIndex < -1 || componentIndex >= size) {
+            throw new IllegalArgumentException("Component index should be in [-1, " + size + ")");
+        }
+        this.componentIndex = componentIndex;
+    }
+
+    public void setCommonRandomNumbers(boolean commonRandomNumbers) {
+        this.commonRandomNumbers = commonRandomNumbers;
+        if (commonRandomNumbers && seed == null) {
+            seed = new SplitMix64().nextLong();
+        }
+    }
+
+    public void setAntithetic(boolean antithetic) {
+        this.antithetic = antithetic;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public double getValue(int point) {
+        return from + point * step;
+    }
+
+    public SimulationConfig getPointConfig(int point) {
+        if (point < 0 || point >= pointCount) {
+            throw new IllegalArgumentException("Point should be in [0, " + pointCount + ")");
+        }
+        double value = getValue(point);
+        int count = (int) value;
+        List<Double> sources = switch (parameter) {
+            case SOURCE_COUNT -> Collections.nCopies(count, componentLambda);
+            case SOURCE_LAMBDA -> replaceLambda(config.getSources(), value);
+            default -> config.getSources();
+        };
+        List<Double> processors = switch (parameter) {
+            case PROCESSOR_COUNT -> Collections.nCopies(count, componentLambda);
+            case PROCESSOR_LAMBDA -> replaceLambda(config.getProcessors(), value);
+            default -> config.getProcessors();
+        };
+        int bufferCapacity = parameter == Parameter.BUFFER_CAPACITY ? count : config.getBufferCapacity();
+        int requestsCount = parameter == Parameter.REQUESTS_COUNT ? count : config.getRequestsCount();
+        SimulationConfig simulationConfig = new SimulationConfig(new ConfigJSON(requestsCount, bufferCapacity, sources,
+                processors, seed, config.getSourceDistributions(), config.getProcessorDistributions()));
+        if (commonRandomNumbers) {
+            simulationConfig = simulationConfig.withCommonRandomNumbers();
+        }
+        return antithetic ? simulationConfig.withAntitheticSampling() : simulationConfig;
+    }
+
+    private List<Double> replaceLambda(List<Double> lambdas, double value) {
+        if (componentIndex != -1) {
+            lambdas.set(componentIndex, value);
+            return lambdas;
+        }
+        return Collections.nCopies(lambdas.size(), value);
+    }
+
+    public VarianceReduction analyzeVarianceReduction(int replications) {
+        VarianceReductionAnalyzer analyzer = new VarianceReductionAnalyzer(replications, pool);
+        varianceReductionAnalyzer = analyzer;
+        if (cancelled) {
+            analyzer.cancel();
+        }
+        return analyzer.analyze(getPointConfig(0), pointCount > 1 ? getPointConfig(1) : null);
+    }
+
+    public void run(OnPointComplete onPointComplete) {
+        List<List<ForkJoinTask<SweepResult>>> points = new ArrayList<>(pointCount);
+        for (int point = 0; point < pointCount; point++) {
+            SimulationConfig pointConfig = getPointConfig(point);
+            List<SimulationConfig> configs = antithetic ?
+                    List.of(pointConfig, pointConfig.antitheticPartner()) : List.of(pointConfig);
+            List<ForkJoinTask<SweepResult>> tasks = new ArrayList<>(configs.size());
+            for (SimulationConfig simulationConfig : configs) {
+                int index = point;
+                tasks.add(pool.submit(() -> simulate(index, simulationConfig)));
+            }
+            points.add(tasks);
+        }
+        try {
+            for (int point = 0; point < pointCount && !cancelled; point++) {
+                List<SweepResult> results = new ArrayList<>(points.get(point).size());
+                for (ForkJoinTask<SweepResult> task : points.get(point)) {
+                    results.add(task.join());
+                }
+                if (cancelled) break;
+                onPointComplete.pointCompleted(average(point, results));
+            }
+        } catch (RuntimeException exception) {
+            cancel();
+            throw exception;
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+        VarianceReductionAnalyzer analyzer = varianceReductionAnalyzer;
+        if (analyzer != null) {
+            analyzer.cancel();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private SweepResult simulate(int point, SimulationConfig simulationConfig) {
+        if (cancelled) return null;
+        Simulator simulator = new Simulator(simulationConfig, false);
+        simulator.setListener(ignored -> !cancelled);
+        simulator.runToCompletion();
+        SelectionManager selectionManager = simulator.getSelectionManager();
+        double rejectProbability = (double) simulator.getProductionManager().getFullRejectCount() /
+                simulator.getProductionManager().getCurrentRequestCount();
+        double lifeTime = selectionManager.getLifeTimeSum() / selectionManager.getFullSuccessCount();
+        double usingRate = 0;
+        for (Processor processor : selectionManager.getProcessors()) {
+            usingRate += processor.getWorkTime() / simulator.getEndTime();
+        }
+        return new SweepResult(point, getValue(point), rejectProbability, lifeTime,
+                usingRate / selectionManager.getProcessors().size());
+    }
+
+    private SweepResult average(int point, List<SweepResult> results) {
+        double rejectProbability = 0;
+        double lifeTime = 0;
+        double processorsUsingRate = 0;
+        for (SweepResult result : results) {
+            rejectProbability += result.rejectProbability();
+            lifeTime += result.lifeTime();
+            processorsUsingRate += result.processorsUsingRate();
+        }
+        int count = results.size();
+        return new SweepResult(point, getValue(point), rejectProbability / count, lifeTime / count,
+                processorsUsingRate / count);
+    }
+}
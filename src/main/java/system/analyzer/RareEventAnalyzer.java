@@ -0,0 +1,201 @@
+package system.analyzer;
+
+import configs.SimulationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import system.random.RandomStream;
+import system.simulator.Simulator;
+import system.util.WelfordAccumulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RareEventAnalyzer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RareEventAnalyzer.class);
+    private static final int PILOT_RETRIALS = 2;
+    private static final long PILOT_EVENT_LIMIT = 1_000_000;
+
+    private static class Trial {
+        private final RandomStream random;
+        private final long[] crossings;
+        private final long eventLimit;
+        private double weightedRejectCount;
+        private long rejectCount;
+        private long eventCount;
+
+        private Trial(RandomStream random, int levelCount, long eventLimit) {
+            this.random = random;
+            this.crossings = new long[levelCount];
+            this.eventLimit = eventLimit;
+            this.weightedRejectCount = 0;
+            this.rejectCount = 0;
+            this.eventCount = 0;
+        }
+
+        private boolean isExhausted() {
+            return eventCount >= eventLimit;
+        }
+    }
+
+    private final int[] thresholds;
+    private final int[] retrials;
+    private final double[] weights;
+    private final boolean adaptive;
+    private final int replications;
+    private double rejectProbability = Double.NaN;
+    private double relativeError = Double.NaN;
+    private long eventCount = 0;
+    private long pilotEventLimit = PILOT_EVENT_LIMIT;
+
+    public RareEventAnalyzer(int bufferCapacity, int replications) {
+        this(createThresholds(bufferCapacity), createRetrials(bufferCapacity), true, replications);
+    }
+
+    public RareEventAnalyzer(List<Integer> thresholds, List<Integer> retrials, int replications) {
+        this(thresholds, retrials, false, replications);
+    }
+
+    private RareEventAnalyzer(List<Integer> thresholds, List<Integer> retrials, boolean adaptive, int replications) {
+        if (thresholds.isEmpty()) throw new IllegalArgumentException("Thresholds count should be greater than 0");
+        if (thresholds.size() != retrials.size()) throw new IllegalArgumentException("Retrials count should be set for every threshold");
+        if (replications < 2) throw new IllegalArgumentException("Replications count should be greater than 1");
+        this.thresholds = new int[thresholds.size()];
+        this.retrials = new int[retrials.size()];
+        this.weights = new double[thresholds.size() + 1];
+        this.adaptive = adaptive;
+        this.replications = replications;
+        for (int i = 0; i < thresholds.size(); i++) {
+            this.thresholds[i] = thresholds.get(i);
+            this.retrials[i] = retrials.get(i);
+            if (this.thresholds[i] < 1 || (i > 0 && this.thresholds[i] <= this.thresholds[i - 1])) {
+                throw new IllegalArgumentException("Thresholds should be increasing and greater than 0");
+            }
+            if (this.retrials[i] < 1) throw new IllegalArgumentException("Retrials count should be greater than 0");
+        }
+        updateWeights();
+    }
+
+    private static List<Integer> createThresholds(int bufferCapacity) {
+        List<Integer> thresholds = new ArrayList<>(bufferCapacity);
+        for (int i = 1; i <= bufferCapacity; i++) {
+            thresholds.add(i);
+        }
+        return thresholds;
+    }
+
+    private static List<Integer> createRetrials(int bufferCapacity) {
+        List<Integer> retrials = new ArrayList<>(bufferCapacity);
+        for (int i = 1; i <= bufferCapacity; i++) {
+            retrials.add(PILOT_RETRIALS);
+        }
+        return retrials;
+    }
+
+    public double getRejectProbability() {
+        return rejectProbability;
+    }
+
+    public double getRelativeError() {
+        return relativeError;
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public void setPilotEventLimit(long pilotEventLimit) {
+        if (pilotEventLimit <= 0) throw new IllegalArgumentException("Pilot event limit should be greater than 0");
+        this.pilotEventLimit = pilotEventLimit;
+    }
+
+    public List<Integer> getRetrials() {
+        return Arrays.stream(retrials).boxed().toList();
+    }
+
+    public void analyze(SimulationConfig config) {
+        if (thresholds[thresholds.length - 1] > config.getConfig().getBufferCapacity()) {
+            throw new IllegalArgumentException("Thresholds should not be greater than buffer capacity");
+        }
+        eventCount = 0;
+        if (adaptive) {
+            Arrays.fill(retrials, PILOT_RETRIALS);
+            updateWeights();
+            tuneRetrials(simulate(config.forReplication(replications), pilotEventLimit));
+        }
+        WelfordAccumulator estimates = new WelfordAccumulator();
+        for (int replication = 0; replication < replications; replication++) {
+            SimulationConfig replicationConfig = config.forReplication(replication);
+            Trial trial = simulate(replicationConfig, Long.MAX_VALUE);
+            estimates.add(trial.weightedRejectCount / replicationConfig.getConfig().getRequestsCount());
+        }
+        rejectProbability = estimates.getMean();
+        double variance = estimates.getSquaredDeviation(rejectProbability) / (replications - 1);
+        relativeError = Math.sqrt(variance / replications) / rejectProbability;
+        LOGGER.info("Reject probability {} with relative error {} after {} events, retrials {}",
+                rejectProbability, relativeError, eventCount, getRetrials());
+    }
+
+    private Trial simulate(SimulationConfig config, long eventLimit) {
+        Trial trial = new Trial(config.createSplittingStream(), weights.length, eventLimit);
+        simulateTrial(trial, new Simulator(config, false), 0);
+        eventCount += trial.eventCount;
+        return trial;
+    }
+
+    private void simulateTrial(Trial trial, Simulator simulator, int birthLevel) {
+        int level = getLevel(simulator.getBuffer().getSize());
+        int rejectCount = simulator.getProductionManager().getFullRejectCount();
+        while (!trial.isExhausted() && simulator.headlessStep()) {
+            trial.eventCount++;
+            int newRejectCount = simulator.getProductionManager().getFullRejectCount();
+            trial.rejectCount += newRejectCount - rejectCount;
+            trial.weightedRejectCount += (newRejectCount - rejectCount) * weights[level];
+            rejectCount = newRejectCount;
+            int newLevel = getLevel(simulator.getBuffer().getSize());
+            if (newLevel < birthLevel) return;
+            while (level < newLevel) {
+                level++;
+                trial.crossings[level]++;
+                for (int i = 1; i < retrials[level - 1]; i++) {
+                    simulateTrial(trial, simulator.branch(trial.random.split()), level);
+                }
+            }
+            level = newLevel;
+        }
+    }
+
+    private void tuneRetrials(Trial pilot) {
+        int[] tuned = new int[retrials.length];
+        double factor = PILOT_RETRIALS;
+        double target = 1;
+        double product = 1;
+        for (int level = 1; level <= thresholds.length; level++) {
+            long next = level < thresholds.length ? pilot.crossings[level + 1] : pilot.rejectCount;
+            long trials = pilot.crossings[level] * retrials[level - 1];
+            if (next > 0 && trials > 0) {
+                factor = (double) trials / next;
+            }
+            target *= factor;
+            tuned[level - 1] = Math.max(1, (int) Math.round(target / product));
+            product *= tuned[level - 1];
+        }
+        System.arraycopy(tuned, 0, retrials, 0, retrials.length);
+        updateWeights();
+    }
+
+    private void updateWeights() {
+        weights[0] = 1;
+        for (int i = 0; i < retrials.length; i++) {
+            weights[i + 1] = weights[i] / retrials[i];
+        }
+    }
+
+    private int getLevel(int occupancy) {
+        int level = 0;
+        while (level < thresholds.length && thresholds[level] <= occupancy) {
+            level++;
+        }
+        return level;
+    }
+}
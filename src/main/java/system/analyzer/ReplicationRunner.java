@@ -0,0 +1,184 @@
+package system.analyzer;
+
+import configs.SimulationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import system.simulator.Simulator;
+import system.util.StudentDistribution;
+import system.util.WelfordAccumulator;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class ReplicationRunner {
+    public enum SourceColumn {
+        REQUEST_COUNT, REJECT_PROBABILITY, LIFE_TIME, BUFFER_TIME, PROCESS_TIME, BUFFER_TIME_DISPERSION,
+        PROCESS_TIME_DISPERSION
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationRunner.class);
+    private static final int MIN_REPLICATIONS = 2;
+    private static final int REORDER_FACTOR = 2;
+    private static final List<SourceColumn> STOP_COLUMNS = List.of(SourceColumn.REJECT_PROBABILITY, SourceColumn.LIFE_TIME);
+
+    private final SimulationConfig config;
+    private final int maxReplications;
+    private final double confidence;
+    private final double relativeHalfWidth;
+    private final ForkJoinPool pool;
+    private final List<WelfordAccumulator[]> sourceColumns;
+    private final List<WelfordAccumulator> usageRates;
+    private final NumberFormat formatter = new DecimalFormat("#0.000");
+    private int replicationCount;
+    private volatile boolean stopped = false;
+
+    public ReplicationRunner(SimulationConfig config, int maxReplications, double confidence, double relativeHalfWidth) {
+        this(config, maxReplications, confidence, relativeHalfWidth, ForkJoinPool.commonPool());
+    }
+
+    public ReplicationRunner(SimulationConfig config, int maxReplications, double confidence, double relativeHalfWidth,
+                             ForkJoinPool pool) {
+        if (maxReplications < MIN_REPLICATIONS) throw new IllegalArgumentException("Replications count should be greater than 1");
+        if (!(confidence > 0 && confidence < 1)) throw new IllegalArgumentException("Confidence should be in (0, 1)");
+        if (!(relativeHalfWidth >= 0)) throw new IllegalArgumentException("Relative half-width should not be negative");
+        this.config = config;
+        this.maxReplications = maxReplications;
+        this.confidence = confidence;
+        this.relativeHalfWidth = relativeHalfWidth;
+        this.pool = pool;
+        this.sourceColumns = new ArrayList<>();
+        this.usageRates = new ArrayList<>();
+        this.replicationCount = 0;
+        for (int i = 0; i < config.getConfig().getSources().size(); i++) {
+            WelfordAccumulator[] columns = new WelfordAccumulator[SourceColumn.values().length];
+            for (int column = 0; column < columns.length; column++) {
+                columns[column] = new WelfordAccumulator();
+            }
+            sourceColumns.add(columns);
+        }
+        for (int i = 0; i < config.getConfig().getProcessors().size(); i++) {
+            usageRates.add(new WelfordAccumulator());
+        }
+    }
+
+    public int getReplicationCount() {
+        return replicationCount;
+    }
+
+    public void run() {
+        int windowSize = Math.max(pool.getParallelism(), 1) * REORDER_FACTOR;
+        Deque<ForkJoinTask<Analyzer>> window = new ArrayDeque<>(windowSize);
+        int submitted = replicationCount;
+        stopped = false;
+        while (replicationCount < maxReplications) {
+            while (submitted < maxReplications && window.size() < windowSize) {
+                SimulationConfig replicationConfig = config.forReplication(submitted++);
+                window.addLast(pool.submit(() -> simulate(replicationConfig)));
+            }
+            add(window.removeFirst().join());
+            replicationCount++;
+            if (relativeHalfWidth > 0 && isPrecise()) break;
+        }
+        stopped = true;
+        for (ForkJoinTask<Analyzer> task : window) {
+            task.cancel(false);
+        }
+        LOGGER.info("{} of {} replications done", replicationCount, maxReplications);
+    }
+
+    private Analyzer simulate(SimulationConfig config) {
+        if (stopped) return null;
+        Simulator simulator = new Simulator(config, false);
+        simulator.setListener(ignored -> !stopped);
+        simulator.runToCompletion();
+        Analyzer analyzer = new Analyzer(simulator);
+        analyzer.analyze(true);
+        return analyzer;
+    }
+
+    private void add(Analyzer analyzer) {
+        for (AnalyzerResults result : analyzer.getSourcesResult()) {
+            WelfordAccumulator[] columns = sourceColumns.get(result.number);
+            for (SourceColumn column : SourceColumn.values()) {
+                columns[column.ordinal()].add(getValue(result, column));
+            }
+        }
+        for (AnalyzerResults result : analyzer.getProcessorsResult()) {
+            usageRates.get(result.number).add(result.usageRate);
+        }
+    }
+
+    private static double getValue(AnalyzerResults result, SourceColumn column) {
+        return switch (column) {
+            case REQUEST_COUNT -> result.requestCount;
+            case REJECT_PROBABILITY -> result.rejectProbability;
+            case LIFE_TIME -> result.lifeTime;
+            case BUFFER_TIME -> result.bufferTime;
+            case PROCESS_TIME -> result.processTime;
+            case BUFFER_TIME_DISPERSION -> result.bufferTimeDispersion;
+            case PROCESS_TIME_DISPERSION -> result.processTimeDispersion;
+        };
+    }
+
+    private boolean isPrecise() {
+        for (int i = 0; i < sourceColumns.size(); i++) {
+            for (SourceColumn column : STOP_COLUMNS) {
+                if (!getSourceInterval(i, column).isWithin(relativeHalfWidth)) return false;
+            }
+        }
+        return true;
+    }
+
+    public ConfidenceInterval getSourceInterval(int sourceNumber, SourceColumn column) {
+        return createInterval(sourceColumns.get(sourceNumber)[column.ordinal()]);
+    }
+
+    public ConfidenceInterval getProcessorInterval(int processorNumber) {
+        return createInterval(usageRates.get(processorNumber));
+    }
+
+    private ConfidenceInterval createInterval(WelfordAccumulator accumulator) {
+        long count = accumulator.getCount();
+        double mean = accumulator.getMean();
+        if (count < MIN_REPLICATIONS) {
+            return new ConfidenceInterval(mean, Double.NaN);
+        }
+        double variance = accumulator.getSquaredDeviation(mean) / (count - 1);
+        double quantile = StudentDistribution.quantile((1 + confidence) / 2, (int) count - 1);
+        return new ConfidenceInterval(mean, quantile * Math.sqrt(variance / count));
+    }
+
+    public List<List<String>> getSourceResults() {
+        List<List<String>> sourceResultsTable = new ArrayList<>();
+        for (int i = 0; i < sourceColumns.size(); i++) {
+            List<String> sourceResultsRow = new ArrayList<>();
+            sourceResultsRow.add(String.valueOf(i));
+            for (SourceColumn column : SourceColumn.values()) {
+                sourceResultsRow.add(format(getSourceInterval(i, column)));
+            }
+            sourceResultsTable.add(sourceResultsRow);
+        }
+        return sourceResultsTable;
+    }
+
+    public List<List<String>> getProcessorResults() {
+        List<List<String>> processorResultsTable = new ArrayList<>();
+        for (int i = 0; i < usageRates.size(); i++) {
+            List<String> processorResultsRow = new ArrayList<>();
+            processorResultsRow.add(String.valueOf(i));
+            processorResultsRow.add(format(getProcessorInterval(i)));
+            processorResultsTable.add(processorResultsRow);
+        }
+        return processorResultsTable;
+    }
+
+    private String format(ConfidenceInterval interval) {
+        return formatter.format(interval.mean()) + " \u00b1 " + formatter.format(interval.halfWidth());
+    }
+}
@@ -24,13 +24,17 @@ public class RequestCountAnalyzer {
         double lastP = -10;
         int lastN = 0;
         int n1 = n0;
+        Simulator sim = new Simulator(config, n1, false);
         while (true) {
             if (lastP > 0) {
                 n1 = (int) Math.round(Ta * Ta * (1 - lastP) / (lastP * d * d));
             }
-
-            Simulator sim = new Simulator(config.createSources(), config.createBuffer(), config.createProcessors(), n1);
-            sim.fullSimulation();
+            if (n1 > sim.getProductionManager().getMaxRequestCount()) {
+                sim.extend(n1);
+            } else {
+                n1 = sim.getProductionManager().getMaxRequestCount();
+            }
+            sim.runUntilLimit();
 
             double p1 = (double) sim.getProductionManager().getFullRejectCount() / n1;
             if (LOGGER.isDebugEnabled()) {
@@ -43,13 +47,14 @@ public class RequestCountAnalyzer {
             if (lastP != -1 && Math.abs(lastP - p1) < 0.1 * lastP) {
                 break;
             }
-            lastSimulator = sim;
             if (p1 == 0 || p1 == 1) {
                 break;
             }
             lastP = p1;
             lastN = n1;
         }
+        sim.runToCompletion();
+        lastSimulator = sim;
         LOGGER.info("Optimal count set {} -> {} with prob {}", n0, lastN, lastP);
     }
 }
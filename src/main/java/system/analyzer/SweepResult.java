@@ -0,0 +1,5 @@
+package system.analyzer;
+
+public record SweepResult(int index, double value, double rejectProbability, double lifeTime,
+                          double processorsUsingRate) {
+}
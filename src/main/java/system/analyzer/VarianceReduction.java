@@ -0,0 +1,11 @@
+package system.analyzer;
+
+public record VarianceReduction(double commonRandomNumbersFactor, double antitheticFactor) {
+    public boolean hasCommonRandomNumbers() {
+        return !Double.isNaN(commonRandomNumbersFactor);
+    }
+
+    public boolean hasAntithetic() {
+        return !Double.isNaN(antitheticFactor);
+    }
+}
@@ -0,0 +1,125 @@
+package system.analyzer;
+
+import configs.SimulationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import system.simulator.Simulator;
+import system.util.WelfordAccumulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class VarianceReductionAnalyzer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VarianceReductionAnalyzer.class);
+
+    private final int replications;
+    private final ForkJoinPool pool;
+    private double commonRandomNumbersFactor = Double.NaN;
+    private double antitheticFactor = Double.NaN;
+    private volatile boolean cancelled = false;
+
+    public VarianceReductionAnalyzer(int replications) {
+        this(replications, ForkJoinPool.commonPool());
+    }
+
+    public VarianceReductionAnalyzer(int replications, ForkJoinPool pool) {
+        if (replications < 2) throw new IllegalArgumentException("Replications count should be greater than 1");
+        this.replications = replications;
+        this.pool = pool;
+    }
+
+    public double getCommonRandomNumbersFactor() {
+        return commonRandomNumbersFactor;
+    }
+
+    public double getAntitheticFactor() {
+        return antitheticFactor;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public VarianceReduction analyze(SimulationConfig first, SimulationConfig second) {
+        boolean commonRandomNumbers = first.isCommonRandomNumbers() && second != null;
+        boolean antithetic = first.isAntithetic();
+        commonRandomNumbersFactor = Double.NaN;
+        antitheticFactor = Double.NaN;
+        if (!commonRandomNumbers && !antithetic) {
+            return new VarianceReduction(commonRandomNumbersFactor, antitheticFactor);
+        }
+        List<ForkJoinTask<Double>> firstTasks = new ArrayList<>(replications);
+        List<ForkJoinTask<Double>> partnerTasks = new ArrayList<>(replications);
+        List<ForkJoinTask<Double>> secondTasks = new ArrayList<>(replications);
+        List<ForkJoinTask<Double>> secondPartnerTasks = new ArrayList<>(replications);
+        for (int replication = 0; replication < replications; replication++) {
+            SimulationConfig firstConfig = first.forReplication(replication);
+            firstTasks.add(pool.submit(() -> getRejectProbability(firstConfig)));
+            if (antithetic) {
+                partnerTasks.add(pool.submit(() -> getRejectProbability(firstConfig.antitheticPartner())));
+            }
+            if (commonRandomNumbers) {
+                SimulationConfig secondConfig = second.forReplication(replication);
+                secondTasks.add(pool.submit(() -> getRejectProbability(secondConfig)));
+                if (secondConfig.isAntithetic()) {
+                    secondPartnerTasks.add(pool.submit(() -> getRejectProbability(secondConfig.antitheticPartner())));
+                }
+            }
+        }
+        WelfordAccumulator firstValues = new WelfordAccumulator();
+        WelfordAccumulator secondValues = new WelfordAccumulator();
+        WelfordAccumulator differences = new WelfordAccumulator();
+        WelfordAccumulator antitheticValues = new WelfordAccumulator();
+        WelfordAccumulator antitheticMeans = new WelfordAccumulator();
+        for (int replication = 0; replication < replications && !cancelled; replication++) {
+            double x = firstTasks.get(replication).join();
+            if (antithetic) {
+                double partnerValue = partnerTasks.get(replication).join();
+                antitheticValues.add(x);
+                antitheticValues.add(partnerValue);
+                x = (x + partnerValue) / 2;
+                antitheticMeans.add(x);
+            }
+            if (commonRandomNumbers) {
+                double y = secondTasks.get(replication).join();
+                if (second.isAntithetic()) {
+                    y = (y + secondPartnerTasks.get(replication).join()) / 2;
+                }
+                firstValues.add(x);
+                secondValues.add(y);
+                differences.add(x - y);
+            }
+        }
+        if (cancelled) {
+            return new VarianceReduction(commonRandomNumbersFactor, antitheticFactor);
+        }
+        if (commonRandomNumbers) {
+            commonRandomNumbersFactor = (variance(firstValues) + variance(secondValues)) / variance(differences);
+            LOGGER.info("Common random numbers reduce variance x{} over {} replications",
+                    commonRandomNumbersFactor, replications);
+        }
+        if (antithetic) {
+            antitheticFactor = variance(antitheticValues) / 2 / variance(antitheticMeans);
+            LOGGER.info("Antithetic variates reduce variance x{} over {} replications", antitheticFactor, replications);
+        }
+        return new VarianceReduction(commonRandomNumbersFactor, antitheticFactor);
+    }
+
+    private double getRejectProbability(SimulationConfig config) {
+        if (cancelled) return Double.NaN;
+        Simulator simulator = new Simulator(config, false);
+        simulator.setListener(ignored -> !cancelled);
+        simulator.runToCompletion();
+        return (double) simulator.getProductionManager().getFullRejectCount() / config.getConfig().getRequestsCount();
+    }
+
+    private static double variance(WelfordAccumulator accumulator) {
+        return accumulator.getSquaredDeviation(accumulator.getMean()) / (accumulator.getCount() - 1);
+    }
+}
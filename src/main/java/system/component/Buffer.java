@@ -1,39 +1,120 @@
 package system.component;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 public class Buffer {
+    private static final class Node {
+        private final Request request;
+        private int order;
+        private Node previous;
+        private Node next;
+
+        private Node(Request request, int order) {
+            this.request = request;
+            this.order = order;
+        }
+    }
+
+    private static final class Bucket {
+        private Node[] nodes = new Node[4];
+        private int head = 0;
+        private int size = 0;
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private Node get(int index) {
+            return nodes[(head + index) & (nodes.length - 1)];
+        }
+
+        private void addLast(Node node) {
+            if (size == nodes.length) {
+                Node[] grown = new Node[nodes.length << 1];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = get(i);
+                }
+                nodes = grown;
+                head = 0;
+            }
+            nodes[(head + size++) & (nodes.length - 1)] = node;
+        }
+
+        private Node pollFirst() {
+            Node node = nodes[head];
+            nodes[head] = null;
+            head = (head + 1) & (nodes.length - 1);
+            size--;
+            return node;
+        }
+    }
+
     private final int capacity;
-    private final List<Request> list;
+    private final List<Bucket> buckets;
+    private final BitSet nonEmptyBuckets;
     private final List<Request> requestsPackage;
+    private final int[] orderTree;
+    private Bucket packageBucket;
+    private Node head;
+    private Node tail;
+    private int size;
+    private int nextOrder;
     private int takeIndex;
+    private List<Request> list;
+    private long version;
+    private BufferSnapshot pendingSnapshot;
 
     public Buffer(int capacity) {
         if (capacity < 1) throw new IllegalArgumentException("Buffer capacity should be greater than 0");
         this.capacity = capacity;
-        this.list = new ArrayList<>(capacity);
-        this.requestsPackage = new ArrayList<>(capacity);
+        this.buckets = new ArrayList<>();
+        this.nonEmptyBuckets = new BitSet();
+        this.packageBucket = new Bucket();
+        this.requestsPackage = new PackageList();
+        this.orderTree = new int[2 * capacity + 1];
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.nextOrder = 0;
         this.takeIndex = -1;
+        this.list = null;
+        this.version = 0;
+        this.pendingSnapshot = null;
     }
 
     public Buffer(Buffer buffer) {
-        this.capacity = buffer.capacity;
-        Map<Request, Request> requestMap = new HashMap<>();
-        buffer.list.forEach(request -> requestMap.put(request, new Request(request)));
-        this.list = buffer.list.stream().map(requestMap::get).toList();
-        this.requestsPackage = buffer.requestsPackage.stream().map(requestMap::get).toList();
+        this(buffer.capacity);
+        Node[] copies = new Node[orderTree.length];
+        for (Node node = buffer.head; node != null; node = node.next) {
+            Node copy = new Node(new Request(node.request), nextOrder++);
+            linkLast(copy);
+            copies[node.order] = copy;
+        }
+        for (int i = 0; i < buffer.packageBucket.size; i++) {
+            packageBucket.addLast(copies[buffer.packageBucket.get(i).order]);
+        }
+        for (int source = buffer.nonEmptyBuckets.nextSetBit(0); source >= 0;
+             source = buffer.nonEmptyBuckets.nextSetBit(source + 1)) {
+            Bucket bucket = buffer.buckets.get(source);
+            for (int i = 0; i < bucket.size; i++) {
+                getBucket(source).addLast(copies[bucket.get(i).order]);
+            }
+            nonEmptyBuckets.set(source);
+        }
         this.takeIndex = buffer.takeIndex;
     }
 
     public boolean isEmpty() {
-        return list.isEmpty();
+        return size == 0;
     }
 
     public boolean isFull() {
-        return (list.size() == capacity);
+        return (size == capacity);
     }
 
     public int getTakeIndex() {
@@ -41,10 +122,17 @@ public class Buffer {
     }
 
     public int getSize() {
-        return list.size();
+        return size;
     }
 
     public List<Request> getList() {
+        if (list == null) {
+            List<Request> requests = new ArrayList<>(size);
+            for (Node node = head; node != null; node = node.next) {
+                requests.add(node.request);
+            }
+            list = Collections.unmodifiableList(requests);
+        }
         return list;
     }
 
@@ -56,9 +144,34 @@ public class Buffer {
         return capacity;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public BufferSnapshot snapshot() {
+        if (pendingSnapshot == null) {
+            pendingSnapshot = new BufferSnapshot(this, version);
+        }
+        return pendingSnapshot;
+    }
+
+    void releaseSnapshot(BufferSnapshot snapshot) {
+        if (pendingSnapshot == snapshot) {
+            pendingSnapshot = null;
+        }
+    }
+
     public boolean putRequest(Request request) {
-        if (list.size() < capacity && request != null) {
-            list.add(request);
+        if (size < capacity && request != null) {
+            beforeChange();
+            if (nextOrder == orderTree.length - 1) {
+                renumber();
+            }
+            Node node = new Node(request, nextOrder++);
+            linkLast(node);
+            int source = request.getSourceNumber();
+            getBucket(source).addLast(node);
+            nonEmptyBuckets.set(source);
             return true;
         }
         return false;
@@ -69,27 +182,105 @@ public class Buffer {
     }
 
     public void createPackage() {
-        if (requestsPackage.isEmpty() && !list.isEmpty()) {
-            int priority = list.get(0).getSourceNumber();
-            for (Request request : list) {
-                int current = request.getSourceNumber();
-                if (priority == current) {
-                    requestsPackage.add(request);
-                }
-                if (priority > current) {
-                    priority = current;
-                    requestsPackage.clear();
-                    requestsPackage.add(request);
-                }
-            }
+        if (packageBucket.isEmpty() && size > 0) {
+            beforeChange();
+            int priority = nonEmptyBuckets.nextSetBit(0);
+            Bucket bucket = buckets.get(priority);
+            buckets.set(priority, packageBucket);
+            packageBucket = bucket;
+            nonEmptyBuckets.clear(priority);
         }
     }
 
     private Request getPriorityRequest() {
         createPackage();
-        Request request = requestsPackage.remove(0);
-        takeIndex = list.indexOf(request);
-        list.remove(takeIndex);
-        return request;
+        beforeChange();
+        Node node = packageBucket.pollFirst();
+        takeIndex = countBefore(node.order);
+        unlink(node);
+        return node.request;
+    }
+
+    private void beforeChange() {
+        if (pendingSnapshot != null) {
+            pendingSnapshot.materialize();
+            pendingSnapshot = null;
+        }
+        version++;
+        list = null;
+    }
+
+    private Bucket getBucket(int source) {
+        while (buckets.size() <= source) {
+            buckets.add(new Bucket());
+        }
+        return buckets.get(source);
+    }
+
+    private void linkLast(Node node) {
+        node.previous = tail;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        size++;
+        addOrder(node.order, 1);
+    }
+
+    private void unlink(Node node) {
+        if (node.previous == null) {
+            head = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        node.previous = null;
+        node.next = null;
+        size--;
+        addOrder(node.order, -1);
+    }
+
+    private void renumber() {
+        Arrays.fill(orderTree, 0);
+        nextOrder = 0;
+        for (Node node = head; node != null; node = node.next) {
+            node.order = nextOrder++;
+            addOrder(node.order, 1);
+        }
+    }
+
+    private void addOrder(int order, int delta) {
+        for (int i = order + 1; i < orderTree.length; i += i & -i) {
+            orderTree[i] += delta;
+        }
+    }
+
+    private int countBefore(int order) {
+        int count = 0;
+        for (int i = order; i > 0; i -= i & -i) {
+            count += orderTree[i];
+        }
+        return count;
+    }
+
+    private final class PackageList extends AbstractList<Request> {
+        @Override
+        public Request get(int index) {
+            if (index < 0 || index >= packageBucket.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + packageBucket.size);
+            }
+            return packageBucket.get(index).request;
+        }
+
+        @Override
+        public int size() {
+            return packageBucket.size;
+        }
     }
 }
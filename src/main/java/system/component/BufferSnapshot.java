@@ -0,0 +1,74 @@
+package system.component;
+
+import java.util.List;
+
+public class BufferSnapshot {
+    private final Buffer buffer;
+    private final long version;
+    private Buffer copy;
+    private boolean retained;
+    private boolean released;
+
+    BufferSnapshot(Buffer buffer, long version) {
+        this.buffer = buffer;
+        this.version = version;
+        this.copy = null;
+        this.retained = false;
+        this.released = false;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isMaterialized() {
+        return copy != null;
+    }
+
+    public BufferSnapshot retain() {
+        retained = true;
+        return this;
+    }
+
+    public List<Request> getList() {
+        return getSource().getList();
+    }
+
+    public List<Request> getRequestsPackage() {
+        return getSource().getRequestsPackage();
+    }
+
+    public int getSize() {
+        return getSource().getSize();
+    }
+
+    public int getCapacity() {
+        return buffer.getCapacity();
+    }
+
+    public int getTakeIndex() {
+        return getSource().getTakeIndex();
+    }
+
+    public void release() {
+        if (copy == null && !retained && !released) {
+            released = true;
+            buffer.releaseSnapshot(this);
+        }
+    }
+
+    private Buffer getSource() {
+        if (copy != null) {
+            return copy;
+        }
+        if (buffer.getVersion() != version) throw new IllegalStateException("Buffer snapshot was released before it was read");
+        return buffer;
+    }
+
+    void materialize() {
+        if (copy == null && !released) {
+            if (buffer.getVersion() != version) throw new IllegalStateException("Buffer changed after snapshot");
+            copy = new Buffer(buffer);
+        }
+    }
+}
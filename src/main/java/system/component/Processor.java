@@ -1,19 +1,33 @@
 package system.component;
 
+import system.distribution.DeterministicSampler;
+import system.distribution.Sampler;
+import system.random.RandomStream;
+import system.random.SplitMix64;
 import system.util.TakeUtil;
 
 public class Processor {
     private final int number;
     private Request currentRequest;
     private final double lambda;
+    private final Sampler sampler;
+    private final RandomStream random;
+    private double serviceTime;
     private double workTime;
     private double processTime;
     private boolean wait;
 
     public Processor(int number, double lambda) {
+        this(number, lambda, new SplitMix64(), null);
+    }
+
+    public Processor(int number, double lambda, RandomStream random, Sampler sampler) {
         if (lambda <= 0) throw new IllegalArgumentException("Processor lambda should be greater than 0");
         this.number = number;
         this.lambda = lambda;
+        this.sampler = sampler == null ? new DeterministicSampler(lambda) : sampler;
+        this.random = random;
+        this.serviceTime = 0;
         this.workTime = 0;
         this.processTime = 0;
         this.currentRequest = null;
@@ -21,8 +35,15 @@ public class Processor {
     }
 
     public Processor(Processor processor) {
+        this(processor, processor.random.copy());
+    }
+
+    public Processor(Processor processor, RandomStream random) {
         this.number = processor.number;
         this.lambda = processor.lambda;
+        this.sampler = processor.sampler.copy();
+        this.random = random;
+        this.serviceTime = processor.serviceTime;
         this.workTime = processor.workTime;
         this.processTime = processor.processTime;
         this.currentRequest = TakeUtil.transformOrNull(processor.currentRequest, Request::new);
@@ -37,6 +58,10 @@ public class Processor {
         return lambda;
     }
 
+    public Sampler getSampler() {
+        return sampler;
+    }
+
     public double getProcessTime() {
         return processTime;
     }
@@ -56,7 +81,8 @@ public class Processor {
     public boolean process(Request request) {
         if (wait && request != null) {
             currentRequest = request;
-            processTime = currentRequest.getTime() + currentRequest.getTimeInBuffer() + lambda;
+            serviceTime = sampler.sample(random);
+            processTime = currentRequest.getTime() + currentRequest.getTimeInBuffer() + serviceTime;
             wait = false;
             return true;
         }
@@ -65,8 +91,8 @@ public class Processor {
 
     public Request free() {
         if (currentRequest == null) return null;
-        workTime += lambda;
-        currentRequest.setTimeInProcessor(lambda);
+        workTime += serviceTime;
+        currentRequest.setTimeInProcessor(serviceTime);
         Request requestToReturn = currentRequest;
         currentRequest = null;
         wait = true;
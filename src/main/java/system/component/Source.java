@@ -1,35 +1,68 @@
 package system.component;
 
-import system.util.TakeUtil;
-
-import java.util.Random;
+import system.distribution.ExponentialSampler;
+import system.distribution.Sampler;
+import system.random.RandomStream;
+import system.random.SplitMix64;
 
 public class Source {
+    private static final int BLOCK_SIZE = 64;
+
     private final int number;
     private double lastRequestTime;
-    private Request currentRequest;
+    private double currentTime;
     private int requestCount;
     private final double lambda;
 
-    private final Random random;
+    private final Sampler sampler;
+    private final double[] block;
+    private int blockPosition;
+
+    private final RandomStream random;
 
     public Source(int number, double lambda) {
+        this(number, lambda, new SplitMix64());
+    }
+
+    public Source(int number, double lambda, RandomStream random) {
+        this(number, lambda, random, null);
+    }
+
+    public Source(int number, double lambda, RandomStream random, Sampler sampler) {
         if (lambda <= 0) throw new IllegalArgumentException("Source lambda should be greater than 0");
         this.number = number;
         this.lambda = lambda;
+        this.sampler = sampler == null ? new ExponentialSampler(1 / lambda) : sampler;
+        this.block = new double[BLOCK_SIZE];
+        this.blockPosition = BLOCK_SIZE;
         this.lastRequestTime = 0;
         this.requestCount = 0;
-        this.random = new Random();
-        this.currentRequest = generateRequest();
+        this.random = random;
+        this.currentTime = generateTime();
     }
 
     public Source(Source source) {
         this.number = source.number;
         this.lambda = source.lambda;
+        this.sampler = source.sampler.copy();
+        this.block = source.block.clone();
+        this.blockPosition = source.blockPosition;
+        this.lastRequestTime = source.lastRequestTime;
+        this.requestCount = source.requestCount;
+        this.random = source.random.copy();
+        this.currentTime = source.currentTime;
+    }
+
+    public Source(Source source, RandomStream random) {
+        this.number = source.number;
+        this.lambda = source.lambda;
+        this.sampler = source.sampler.copy();
+        this.block = new double[BLOCK_SIZE];
+        this.blockPosition = BLOCK_SIZE;
         this.lastRequestTime = source.lastRequestTime;
         this.requestCount = source.requestCount;
-        this.random = source.random;
-        this.currentRequest = TakeUtil.transformOrNull(source.currentRequest, Request::new);
+        this.random = random;
+        this.currentTime = source.currentTime;
     }
 
     public int getNumber() {
@@ -41,27 +74,53 @@ public class Source {
     }
 
     public Request getRequestCopy() {
-        return new Request(currentRequest);
+        return new Request(requestCount, number, currentTime);
     }
 
     public Request getRequestAndGenerate() {
-        requestCount++;
-        Request lastRequest = currentRequest;
-        lastRequestTime = currentRequest.getTime();
-        currentRequest = generateRequest();
+        Request lastRequest = new Request(requestCount, number, currentTime);
+        skipAndGenerate();
         return lastRequest;
     }
 
+    public void skipAndGenerate() {
+        requestCount++;
+        lastRequestTime = currentTime;
+        currentTime = generateTime();
+    }
+
+    public Sampler getSampler() {
+        return sampler;
+    }
+
+    public Request createRequest(double time) {
+        Request request = new Request(requestCount++, number, time);
+        lastRequestTime = time;
+        return request;
+    }
+
+    public void skipRequest(double time) {
+        requestCount++;
+        lastRequestTime = time;
+    }
+
+    public double getLastRequestTime() {
+        return lastRequestTime;
+    }
+
     public int getRequestCount() {
         return requestCount;
     }
 
     public double getTime() {
-        return currentRequest.getTime();
+        return currentTime;
     }
 
-    private Request generateRequest() {
-        double additionalTime = (-1 / lambda) * Math.log(random.nextDouble());
-        return new Request(requestCount, number, lastRequestTime + additionalTime);
+    private double generateTime() {
+        if (blockPosition == block.length) {
+            sampler.fill(random, block);
+            blockPosition = 0;
+        }
+        return lastRequestTime + block[blockPosition++];
     }
 }
@@ -0,0 +1,22 @@
+package system.distribution;
+
+import system.random.RandomStream;
+
+public final class DeterministicSampler implements Sampler {
+    private final double value;
+
+    public DeterministicSampler(double value) {
+        if (!(value > 0)) throw new IllegalArgumentException("Deterministic value should be greater than 0");
+        this.value = value;
+    }
+
+    @Override
+    public double sample(RandomStream random) {
+        return value;
+    }
+
+    @Override
+    public double getMean() {
+        return value;
+    }
+}
@@ -0,0 +1,117 @@
+package system.distribution;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DistributionConfig implements Serializable {
+    private final DistributionType type;
+    private final List<Double> parameters;
+    private final List<Double> values;
+    private final List<Double> weights;
+    private final String file;
+    private final boolean repeat;
+    private final boolean inversion;
+
+    public DistributionConfig(DistributionType type, List<Double> parameters, List<Double> values, List<Double> weights) {
+        this(type, parameters, values, weights, null, false, false);
+    }
+
+    private DistributionConfig(DistributionType type, List<Double> parameters, List<Double> values, List<Double> weights,
+                               String file, boolean repeat, boolean inversion) {
+        this.type = type;
+        this.parameters = parameters == null ? null : new ArrayList<>(parameters);
+        this.values = values == null ? null : new ArrayList<>(values);
+        this.weights = weights == null ? null : new ArrayList<>(weights);
+        this.file = file;
+        this.repeat = repeat;
+        this.inversion = inversion;
+    }
+
+    public static DistributionConfig of(DistributionType type, Double... parameters) {
+        return new DistributionConfig(type, List.of(parameters), null, null);
+    }
+
+    public static DistributionConfig inversion(DistributionType type, Double... parameters) {
+        if (type != DistributionType.EXPONENTIAL && type != DistributionType.ERLANG) {
+            throw new IllegalArgumentException("Inversion should be used only with exponential or Erlang distribution");
+        }
+        return new DistributionConfig(type, List.of(parameters), null, null, null, false, true);
+    }
+
+    public static DistributionConfig empirical(List<Double> values, List<Double> weights) {
+        return new DistributionConfig(DistributionType.EMPIRICAL, null, values, weights);
+    }
+
+    public static DistributionConfig trace(String file) {
+        return trace(file, false);
+    }
+
+    public static DistributionConfig trace(String file, boolean repeat) {
+        return new DistributionConfig(DistributionType.TRACE, null, null, null, file, repeat, false);
+    }
+
+    public DistributionType getType() {
+        return type;
+    }
+
+    public List<Double> getParameters() {
+        return parameters == null ? List.of() : new ArrayList<>(parameters);
+    }
+
+    public List<Double> getValues() {
+        return values == null ? null : new ArrayList<>(values);
+    }
+
+    public List<Double> getWeights() {
+        return weights == null ? null : new ArrayList<>(weights);
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public boolean isRepeat() {
+        return repeat;
+    }
+
+    public boolean isInversion() {
+        return inversion;
+    }
+
+    public Sampler createSampler(double mean) {
+        return createSampler(mean, false);
+    }
+
+    public Sampler createSampler(double mean, boolean antithetic) {
+        if (type == null) throw new IllegalArgumentException("Distribution type should be set");
+        return switch (type) {
+            case EXPONENTIAL -> new ExponentialSampler(mean, inversion || antithetic);
+            case ERLANG -> new ErlangSampler(getShape(), mean, inversion || antithetic);
+            case HYPEREXPONENTIAL -> new HyperexponentialSampler(weights, parameters, mean);
+            case LOGNORMAL -> new LognormalSampler(getParameter(0, "Lognormal sigma"), mean);
+            case DETERMINISTIC -> new DeterministicSampler(mean);
+            case EMPIRICAL -> new EmpiricalSampler(values, weights);
+            case TRACE -> {
+                if (file == null) throw new IllegalArgumentException("Trace file should be set");
+                yield TraceSampler.open(Path.of(file), repeat);
+            }
+        };
+    }
+
+    private int getShape() {
+        double shape = getParameter(0, "Erlang shape");
+        if (!(shape >= 1) || shape != Math.rint(shape) || shape > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Erlang shape should be integer greater than 0, got " + shape);
+        }
+        return (int) shape;
+    }
+
+    private double getParameter(int index, String name) {
+        if (parameters == null || parameters.size() <= index || parameters.get(index) == null) {
+            throw new IllegalArgumentException(name + " should be set");
+        }
+        return parameters.get(index);
+    }
+}
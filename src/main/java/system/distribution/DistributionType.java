@@ -0,0 +1,5 @@
+package system.distribution;
+
+public enum DistributionType {
+    EXPONENTIAL, ERLANG, HYPEREXPONENTIAL, LOGNORMAL, DETERMINISTIC, EMPIRICAL, TRACE
+}
@@ -0,0 +1,45 @@
+package system.distribution;
+
+import system.random.AliasTable;
+import system.random.RandomStream;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class EmpiricalSampler implements Sampler {
+    private final double[] values;
+    private final AliasTable table;
+    private final double mean;
+
+    public EmpiricalSampler(List<Double> values, List<Double> weights) {
+        if (values == null || values.isEmpty()) throw new IllegalArgumentException("Empirical values should not be empty");
+        List<Double> valueWeights = weights == null ? Collections.nCopies(values.size(), 1.0) : weights;
+        if (valueWeights.size() != values.size()) {
+            throw new IllegalArgumentException("Empirical should have same count of values and weights");
+        }
+        this.table = new AliasTable(valueWeights);
+        this.values = new double[values.size()];
+        double weightSum = 0;
+        double weightedSum = 0;
+        for (int i = 0; i < values.size(); i++) {
+            Double value = values.get(i);
+            if (value == null || !(value >= 0) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException("Empirical value should be finite and not negative");
+            }
+            this.values[i] = value;
+            weightSum += valueWeights.get(i);
+            weightedSum += valueWeights.get(i) * value;
+        }
+        this.mean = weightedSum / weightSum;
+    }
+
+    @Override
+    public double sample(RandomStream random) {
+        return values[table.next(random)];
+    }
+
+    @Override
+    public double getMean() {
+        return mean;
+    }
+}
@@ -0,0 +1,41 @@
+package system.distribution;
+
+import system.random.ExponentialBatch;
+import system.random.RandomStream;
+import system.random.ZigguratExponential;
+
+public final class ErlangSampler implements Sampler {
+    private final int shape;
+    private final double phaseMean;
+    private final boolean inversion;
+
+    public ErlangSampler(int shape, double mean) {
+        this(shape, mean, false);
+    }
+
+    public ErlangSampler(int shape, double mean, boolean inversion) {
+        if (shape < 1) throw new IllegalArgumentException("Erlang shape should be greater than 0");
+        if (!(mean > 0)) throw new IllegalArgumentException("Erlang mean should be greater than 0");
+        this.shape = shape;
+        this.phaseMean = mean / shape;
+        this.inversion = inversion;
+    }
+
+    public boolean isInversion() {
+        return inversion;
+    }
+
+    @Override
+    public double sample(RandomStream random) {
+        double sum = 0;
+        for (int i = 0; i < shape; i++) {
+            sum += inversion ? ExponentialBatch.next(random, 1) : ZigguratExponential.next(random);
+        }
+        return phaseMean * sum;
+    }
+
+    @Override
+    public double getMean() {
+        return phaseMean * shape;
+    }
+}
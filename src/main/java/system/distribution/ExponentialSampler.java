@@ -0,0 +1,45 @@
+package system.distribution;
+
+import system.random.ExponentialBatch;
+import system.random.RandomStream;
+import system.random.ZigguratExponential;
+
+public final class ExponentialSampler implements Sampler {
+    private final double mean;
+    private final boolean inversion;
+
+    public ExponentialSampler(double mean) {
+        this(mean, false);
+    }
+
+    public ExponentialSampler(double mean, boolean inversion) {
+        if (!(mean > 0)) throw new IllegalArgumentException("Exponential mean should be greater than 0");
+        this.mean = mean;
+        this.inversion = inversion;
+    }
+
+    public boolean isInversion() {
+        return inversion;
+    }
+
+    @Override
+    public double sample(RandomStream random) {
+        return inversion ? ExponentialBatch.next(random, mean) : mean * ZigguratExponential.next(random);
+    }
+
+    @Override
+    public void fill(RandomStream random, double[] block) {
+        if (inversion) {
+            ExponentialBatch.fill(random, mean, block);
+        } else {
+            for (int i = 0; i < block.length; i++) {
+                block[i] = mean * ZigguratExponential.next(random);
+            }
+        }
+    }
+
+    @Override
+    public double getMean() {
+        return mean;
+    }
+}
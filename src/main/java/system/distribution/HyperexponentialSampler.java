@@ -0,0 +1,45 @@
+package system.distribution;
+
+import system.random.AliasTable;
+import system.random.RandomStream;
+import system.random.ZigguratExponential;
+
+import java.util.List;
+
+public final class HyperexponentialSampler implements Sampler {
+    private final AliasTable phases;
+    private final double[] phaseMeans;
+    private final double mean;
+
+    public HyperexponentialSampler(List<Double> probabilities, List<Double> relativeMeans, double mean) {
+        if (!(mean > 0)) throw new IllegalArgumentException("Hyperexponential mean should be greater than 0");
+        if (relativeMeans == null || probabilities == null || relativeMeans.size() != probabilities.size()) {
+            throw new IllegalArgumentException("Hyperexponential should have same count of probabilities and means");
+        }
+        this.phases = new AliasTable(probabilities);
+        double probabilitySum = probabilities.stream().mapToDouble(Double::doubleValue).sum();
+        double relativeMean = 0;
+        for (int i = 0; i < relativeMeans.size(); i++) {
+            Double phaseMean = relativeMeans.get(i);
+            if (phaseMean == null || !(phaseMean > 0)) {
+                throw new IllegalArgumentException("Hyperexponential phase mean should be greater than 0");
+            }
+            relativeMean += probabilities.get(i) / probabilitySum * phaseMean;
+        }
+        this.phaseMeans = new double[relativeMeans.size()];
+        for (int i = 0; i < phaseMeans.length; i++) {
+            phaseMeans[i] = relativeMeans.get(i) * mean / relativeMean;
+        }
+        this.mean = mean;
+    }
+
+    @Override
+    public double sample(RandomStream random) {
+        return phaseMeans[phases.next(random)] * ZigguratExponential.next(random);
+    }
+
+    @Override
+    public double getMean() {
+        return mean;
+    }
+}
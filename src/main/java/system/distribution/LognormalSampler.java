@@ -0,0 +1,27 @@
+package system.distribution;
+
+import system.random.RandomStream;
+
+public final class LognormalSampler implements Sampler {
+    private final double mu;
+    private final double sigma;
+
+    public LognormalSampler(double sigma, double mean) {
+        if (!(sigma >= 0) || Double.isInfinite(sigma)) throw new IllegalArgumentException("Lognormal sigma should not be negative");
+        if (!(mean > 0)) throw new IllegalArgumentException("Lognormal mean should be greater than 0");
+        this.sigma = sigma;
+        this.mu = Math.log(mean) - sigma * sigma / 2;
+    }
+
+    @Override
+    public double sample(RandomStream random) {
+        double radius = Math.sqrt(-2 * Math.log(1.0 - random.nextDouble()));
+        double normal = radius * Math.cos(2 * Math.PI * random.nextDouble());
+        return Math.exp(mu + sigma * normal);
+    }
+
+    @Override
+    public double getMean() {
+        return Math.exp(mu + sigma * sigma / 2);
+    }
+}
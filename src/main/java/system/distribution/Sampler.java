@@ -0,0 +1,19 @@
+package system.distribution;
+
+import system.random.RandomStream;
+
+public interface Sampler {
+    double sample(RandomStream random);
+
+    default void fill(RandomStream random, double[] block) {
+        for (int i = 0; i < block.length; i++) {
+            block[i] = sample(random);
+        }
+    }
+
+    double getMean();
+
+    default Sampler copy() {
+        return this;
+    }
+}
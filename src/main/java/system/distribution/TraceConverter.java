@@ -0,0 +1,65 @@
+package system.distribution;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class TraceConverter {
+    private static final int BUFFER_RECORDS = 8192;
+
+    private TraceConverter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TraceConverter <input.csv> <output.bin> [column]");
+            System.exit(1);
+        }
+        int column = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        long count = convert(Path.of(args[0]), Path.of(args[1]), column);
+        System.out.println("Converted " + count + " records");
+    }
+
+    public static long convert(Path csv, Path output, int column) throws IOException {
+        if (column < 0) throw new IllegalArgumentException("Trace column should not be negative");
+        long count = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_RECORDS * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+             OutputStream stream = new BufferedOutputStream(Files.newOutputStream(output))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                String[] values = line.split("[,;]");
+                if (values.length <= column) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " has no column " + column);
+                }
+                double value;
+                try {
+                    value = Double.parseDouble(values[column].trim());
+                } catch (NumberFormatException e) {
+                    if (count == 0) continue;
+                    throw new IllegalArgumentException("Line " + lineNumber + " has invalid value: " + values[column], e);
+                }
+                if (!(value >= 0) || Double.isInfinite(value)) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " value should be finite and not negative");
+                }
+                buffer.putDouble(value);
+                count++;
+                if (!buffer.hasRemaining()) {
+                    stream.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+            }
+            stream.write(buffer.array(), 0, buffer.position());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,152 @@
+package system.distribution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import system.random.RandomStream;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class TraceSampler implements Sampler {
+    public static final int DEFAULT_CHUNK_RECORDS = 1 << 27;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TraceSampler.class);
+
+    private static final class Mapping {
+        private final Path path;
+        private final DoubleBuffer[] chunks;
+        private final long recordCount;
+        private final boolean repeat;
+        private final AtomicBoolean repeated = new AtomicBoolean(false);
+        private volatile double mean = Double.NaN;
+
+        private Mapping(Path path, DoubleBuffer[] chunks, long recordCount, boolean repeat) {
+            this.path = path;
+            this.chunks = chunks;
+            this.recordCount = recordCount;
+            this.repeat = repeat;
+        }
+
+        private double getMean() {
+            double result = mean;
+            if (Double.isNaN(result)) {
+                double sum = 0;
+                for (DoubleBuffer buffer : chunks) {
+                    DoubleBuffer values = buffer.duplicate();
+                    while (values.hasRemaining()) {
+                        sum += values.get();
+                    }
+                }
+                result = sum / recordCount;
+                mean = result;
+            }
+            return result;
+        }
+    }
+
+    private final Mapping mapping;
+    private int chunkIndex;
+    private DoubleBuffer chunk;
+
+    private TraceSampler(Mapping mapping) {
+        this.mapping = mapping;
+        this.chunkIndex = 0;
+        this.chunk = mapping.chunks[0].duplicate();
+    }
+
+    private TraceSampler(TraceSampler sampler) {
+        this.mapping = sampler.mapping;
+        this.chunkIndex = sampler.chunkIndex;
+        this.chunk = sampler.chunk.duplicate();
+    }
+
+    public static TraceSampler open(Path path) {
+        return open(path, false);
+    }
+
+    public static TraceSampler open(Path path, boolean repeat) {
+        return open(path, DEFAULT_CHUNK_RECORDS, repeat);
+    }
+
+    public static TraceSampler open(Path path, int chunkRecords, boolean repeat) {
+        if (chunkRecords < 1) throw new IllegalArgumentException("Trace chunk size should be greater than 0");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0 || size % Double.BYTES != 0) {
+                throw new IllegalArgumentException("Trace file should contain at least one double value: " + path);
+            }
+            long recordCount = size / Double.BYTES;
+            int chunkCount = (int) ((recordCount + chunkRecords - 1) / chunkRecords);
+            DoubleBuffer[] chunks = new DoubleBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long first = (long) i * chunkRecords;
+                long records = Math.min(chunkRecords, recordCount - first);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, first * Double.BYTES, records * Double.BYTES);
+                chunks[i] = mapped.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            }
+            return new TraceSampler(new Mapping(path, chunks, recordCount, repeat));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Trace file can not be read: " + path, e);
+        }
+    }
+
+    public long getRecordCount() {
+        return mapping.recordCount;
+    }
+
+    public boolean isRepeat() {
+        return mapping.repeat;
+    }
+
+    @Override
+    public double sample(RandomStream random) {
+        if (!chunk.hasRemaining()) {
+            nextChunk();
+        }
+        return chunk.get();
+    }
+
+    @Override
+    public void fill(RandomStream random, double[] block) {
+        int offset = 0;
+        while (offset < block.length) {
+            if (!chunk.hasRemaining()) {
+                nextChunk();
+            }
+            int length = Math.min(block.length - offset, chunk.remaining());
+            chunk.get(block, offset, length);
+            offset += length;
+        }
+    }
+
+    @Override
+    public double getMean() {
+        return mapping.getMean();
+    }
+
+    @Override
+    public TraceSampler copy() {
+        return new TraceSampler(this);
+    }
+
+    private void nextChunk() {
+        if (chunkIndex + 1 < mapping.chunks.length) {
+            chunkIndex++;
+        } else if (mapping.repeat) {
+            if (mapping.repeated.compareAndSet(false, true)) {
+                LOGGER.warn("Trace {} is exhausted after {} records and is repeated from the beginning",
+                        mapping.path, mapping.recordCount);
+            }
+            chunkIndex = 0;
+        } else {
+            throw new IllegalStateException("Trace " + mapping.path + " is exhausted after " + mapping.recordCount + " records");
+        }
+        chunk = mapping.chunks[chunkIndex].duplicate();
+    }
+}
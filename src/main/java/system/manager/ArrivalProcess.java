@@ -0,0 +1,13 @@
+package system.manager;
+
+import system.component.Request;
+
+interface ArrivalProcess {
+    int peekSource();
+
+    double peekTime();
+
+    Request next();
+
+    void skip();
+}
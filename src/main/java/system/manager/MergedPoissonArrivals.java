@@ -0,0 +1,94 @@
+package system.manager;
+
+import system.component.Request;
+import system.component.Source;
+import system.distribution.ExponentialSampler;
+import system.random.AliasTable;
+import system.random.RandomStream;
+import system.random.ZigguratExponential;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class MergedPoissonArrivals implements ReplicableArrivalProcess {
+    private final List<Source> sources;
+    private final AliasTable sourceTable;
+    private final double mean;
+    private final RandomStream random;
+    private int nextSource;
+    private double nextTime;
+
+    MergedPoissonArrivals(List<Source> sources, RandomStream random) {
+        if (!isApplicable(sources)) throw new IllegalArgumentException("Merged arrivals need exponential sources");
+        this.sources = sources;
+        this.random = random;
+        List<Double> rates = new ArrayList<>(sources.size());
+        double rate = 0;
+        double time = 0;
+        for (Source source : sources) {
+            double sourceRate = 1 / source.getSampler().getMean();
+            rates.add(sourceRate);
+            rate += sourceRate;
+            time = Math.max(time, source.getLastRequestTime());
+        }
+        this.sourceTable = new AliasTable(rates);
+        this.mean = 1 / rate;
+        this.nextTime = time;
+        advance();
+    }
+
+    private MergedPoissonArrivals(MergedPoissonArrivals arrivals, List<Source> sources, RandomStream random) {
+        this.sources = sources;
+        this.sourceTable = arrivals.sourceTable;
+        this.mean = arrivals.mean;
+        this.random = random;
+        this.nextSource = arrivals.nextSource;
+        this.nextTime = arrivals.nextTime;
+    }
+
+    static boolean isApplicable(List<Source> sources) {
+        if (sources.isEmpty()) return false;
+        for (Source source : sources) {
+            if (!(source.getSampler() instanceof ExponentialSampler)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int peekSource() {
+        return nextSource;
+    }
+
+    @Override
+    public double peekTime() {
+        return nextTime;
+    }
+
+    @Override
+    public Request next() {
+        Request request = sources.get(nextSource).createRequest(nextTime);
+        advance();
+        return request;
+    }
+
+    @Override
+    public void skip() {
+        sources.get(nextSource).skipRequest(nextTime);
+        advance();
+    }
+
+    @Override
+    public MergedPoissonArrivals copy(List<Source> sources) {
+        return new MergedPoissonArrivals(this, sources, random.copy());
+    }
+
+    @Override
+    public MergedPoissonArrivals branch(List<Source> sources, RandomStream random) {
+        return new MergedPoissonArrivals(this, sources, random);
+    }
+
+    private void advance() {
+        nextTime += mean * ZigguratExponential.next(random);
+        nextSource = sourceTable.next(random);
+    }
+}
@@ -0,0 +1,133 @@
+package system.manager;
+
+import system.component.Request;
+import system.component.Source;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+class PipelinedArrivals implements ArrivalProcess {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final int SPIN_LIMIT = 128;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(PipelinedArrivals.class, "head", long.class);
+            TAIL = lookup.findVarHandle(PipelinedArrivals.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final List<Source> sources;
+    private final ArrivalProcess producerArrivals;
+    private final double[] times;
+    private final int[] sourceNumbers;
+    private final int mask;
+    private final int limit;
+    private final Thread producer;
+    private volatile boolean stopped;
+    private volatile Throwable producerError;
+    private long head;
+    private long tail;
+    private long cachedTail;
+
+    PipelinedArrivals(List<Source> sources, ArrivalProcess producerArrivals, int capacity, int limit) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Pipeline capacity should be a power of 2");
+        }
+        this.sources = sources;
+        this.producerArrivals = producerArrivals;
+        this.times = new double[capacity];
+        this.sourceNumbers = new int[capacity];
+        this.mask = capacity - 1;
+        this.limit = limit;
+        this.stopped = false;
+        this.producerError = null;
+        this.head = 0;
+        this.tail = 0;
+        this.cachedTail = 0;
+        this.producer = new Thread(this::produce, "arrivals-producer");
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    @Override
+    public int peekSource() {
+        awaitArrival();
+        return sourceNumbers[(int) head & mask];
+    }
+
+    @Override
+    public double peekTime() {
+        awaitArrival();
+        return times[(int) head & mask];
+    }
+
+    @Override
+    public Request next() {
+        awaitArrival();
+        int index = (int) head & mask;
+        Request request = sources.get(sourceNumbers[index]).createRequest(times[index]);
+        HEAD.setRelease(this, head + 1);
+        return request;
+    }
+
+    @Override
+    public void skip() {
+        awaitArrival();
+        int index = (int) head & mask;
+        sources.get(sourceNumbers[index]).skipRequest(times[index]);
+        HEAD.setRelease(this, head + 1);
+    }
+
+    void stop() {
+        stopped = true;
+        LockSupport.unpark(producer);
+    }
+
+    private void awaitArrival() {
+        int spins = 0;
+        while (head == cachedTail) {
+            if (head == limit) throw new IllegalStateException("Arrival pipeline is exhausted");
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (head != cachedTail) return;
+            if (stopped) throw new IllegalStateException("Arrival pipeline is stopped");
+            if (producerError != null) throw new IllegalStateException("Arrival producer failed", producerError);
+            if (++spins < SPIN_LIMIT) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    private void produce() {
+        try {
+            long produced = 0;
+            long cachedHead = 0;
+            while (produced < limit && !stopped) {
+                long parkNanos = 1000;
+                while (produced - cachedHead == times.length) {
+                    cachedHead = (long) HEAD.getAcquire(this);
+                    if (produced - cachedHead < times.length) break;
+                    if (stopped) return;
+                    LockSupport.parkNanos(parkNanos);
+                    parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+                }
+                int index = (int) produced & mask;
+                times[index] = producerArrivals.peekTime();
+                sourceNumbers[index] = producerArrivals.peekSource();
+                producerArrivals.skip();
+                TAIL.setRelease(this, ++produced);
+            }
+        } catch (Throwable e) {
+            producerError = e;
+        }
+    }
+}
@@ -3,26 +3,84 @@ package system.manager;
 import system.component.Buffer;
 import system.component.Request;
 import system.component.Source;
+import system.random.RandomStream;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.List;
 
 public class ProductionManager {
+    private static final VarHandle REJECT_COUNT;
+
+    static {
+        try {
+            REJECT_COUNT = MethodHandles.lookup().findVarHandle(ProductionManager.class, "rejectCount", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final List<Source> sources;
+    private ArrivalProcess arrivals;
+    private final ReplicableArrivalProcess replicableArrivals;
+    private final boolean mergedArrivals;
     private Source currentSource;
-    private final int maxRequestCount;
+    private int maxRequestCount;
     private final Buffer buffer;
     private int currentRequestCount;
     private final List<List<Request>> rejectedRequests;
+    private final int[] rejectCounts;
+    private int rejectCount;
+    private final boolean keepRequests;
     private Request lastRequest;
 
     public ProductionManager(List<Source> sources, Buffer buffer, int maxRequestCount) {
+        this(sources, buffer, maxRequestCount, true);
+    }
+
+    public ProductionManager(List<Source> sources, Buffer buffer, int maxRequestCount, boolean keepRequests) {
+        this(sources, buffer, maxRequestCount, keepRequests, null);
+    }
+
+    public ProductionManager(List<Source> sources, Buffer buffer, int maxRequestCount, boolean keepRequests,
+                             RandomStream mergedArrivalsStream) {
         this.sources = sources;
         this.buffer = buffer;
         this.currentSource = null;
+        this.replicableArrivals = mergedArrivalsStream != null && MergedPoissonArrivals.isApplicable(sources) ?
+                new MergedPoissonArrivals(sources, mergedArrivalsStream) : new SourceArrivals(sources);
+        this.arrivals = replicableArrivals;
+        this.mergedArrivals = replicableArrivals instanceof MergedPoissonArrivals;
         this.maxRequestCount = maxRequestCount;
         this.currentRequestCount = 0;
         this.rejectedRequests = new ArrayList<>();
+        this.rejectCounts = new int[sources.size()];
+        this.rejectCount = 0;
+        this.keepRequests = keepRequests;
+        this.lastRequest = null;
+        for (int i = 0; i < sources.size(); i++) {
+            rejectedRequests.add(new ArrayList<>());
+        }
+    }
+
+    public ProductionManager(ProductionManager manager, Buffer buffer, RandomStream random) {
+        if (manager.isPipelined()) throw new IllegalStateException("Pipelined arrivals can not be branched");
+        this.sources = new ArrayList<>(manager.sources.size());
+        for (Source source : manager.sources) {
+            sources.add(new Source(source, random.split()));
+        }
+        this.buffer = buffer;
+        this.currentSource = null;
+        this.replicableArrivals = manager.replicableArrivals.branch(sources, random.split());
+        this.arrivals = replicableArrivals;
+        this.mergedArrivals = manager.mergedArrivals;
+        this.maxRequestCount = manager.maxRequestCount;
+        this.currentRequestCount = manager.currentRequestCount;
+        this.rejectedRequests = new ArrayList<>();
+        this.rejectCounts = manager.rejectCounts.clone();
+        this.rejectCount = manager.getFullRejectCount();
+        this.keepRequests = false;
         this.lastRequest = null;
         for (int i = 0; i < sources.size(); i++) {
             rejectedRequests.add(new ArrayList<>());
@@ -37,14 +95,60 @@ public class ProductionManager {
         return rejectedRequests;
     }
 
+    public boolean isKeepRequests() {
+        return keepRequests;
+    }
+
+    public int getRejectCount(int sourceNumber) {
+        return rejectCounts[sourceNumber];
+    }
+
+    public boolean isMergedArrivals() {
+        return mergedArrivals;
+    }
+
+    public void enablePipeline(int capacity) {
+        if (currentRequestCount != 0) throw new IllegalStateException("Pipeline should be enabled before generation");
+        if (arrivals instanceof PipelinedArrivals) return;
+        List<Source> producerSources = new ArrayList<>(sources.size());
+        for (Source source : sources) {
+            producerSources.add(new Source(source));
+        }
+        arrivals = new PipelinedArrivals(sources, replicableArrivals.copy(producerSources), capacity, maxRequestCount);
+    }
+
+    public void stopPipeline() {
+        if (arrivals instanceof PipelinedArrivals) {
+            ((PipelinedArrivals) arrivals).stop();
+        }
+    }
+
+    public boolean isPipelined() {
+        return arrivals instanceof PipelinedArrivals;
+    }
+
+    public Source getCurrentSource() {
+        return currentSource;
+    }
+
     public double getTime() {
-        return currentSource.getTime();
+        return arrivals.peekTime();
     }
 
     public int getMaxRequestCount() {
         return maxRequestCount;
     }
 
+    public void setMaxRequestCount(int maxRequestCount) {
+        if (maxRequestCount < currentRequestCount) {
+            throw new IllegalArgumentException("Max request count should not be less than current request count");
+        }
+        if (isPipelined() && maxRequestCount > this.maxRequestCount) {
+            throw new IllegalStateException("Pipelined arrivals can not be extended");
+        }
+        this.maxRequestCount = maxRequestCount;
+    }
+
     public int getCurrentRequestCount() {
         return currentRequestCount;
     }
@@ -58,15 +162,11 @@ public class ProductionManager {
     }
 
     public int getFullRejectCount() {
-        int counter = 0;
-        for (List<Request> ar : rejectedRequests) {
-            counter += ar.size();
-        }
-        return counter;
+        return (int) REJECT_COUNT.getOpaque(this);
     }
 
     public void generate() {
-        lastRequest = currentSource.getRequestAndGenerate();
+        lastRequest = arrivals.next();
         currentRequestCount++;
     }
 
@@ -75,18 +175,36 @@ public class ProductionManager {
         if (!full) {
             buffer.putRequest(lastRequest);
         } else {
-            rejectedRequests.get(lastRequest.getSourceNumber()).add(lastRequest);
+            int sourceNumber = lastRequest.getSourceNumber();
+            rejectCounts[sourceNumber]++;
+            REJECT_COUNT.setOpaque(this, rejectCount + 1);
+            if (keepRequests) {
+                rejectedRequests.get(sourceNumber).add(lastRequest);
+            }
         }
         return !full;
     }
 
-    public void selectNearestEvent() {
-        currentSource = sources.get(0);
-        for (Source source : sources) {
-            double current = source.getTime();
-            if (currentSource.getTime() > current) {
-                currentSource = source;
+    public int rejectUntil(double time) {
+        int rejected = 0;
+        while (canGenerate() && arrivals.peekTime() < time) {
+            int sourceNumber = arrivals.peekSource();
+            if (keepRequests) {
+                lastRequest = arrivals.next();
+                rejectedRequests.get(sourceNumber).add(lastRequest);
+            } else {
+                arrivals.skip();
             }
+            rejectCounts[sourceNumber]++;
+            currentRequestCount++;
+            rejected++;
         }
+        REJECT_COUNT.setOpaque(this, rejectCount + rejected);
+        return rejected;
+    }
+
+    public void selectNearestEvent() {
+        if (!canGenerate()) return;
+        currentSource = sources.get(arrivals.peekSource());
     }
 }
@@ -0,0 +1,12 @@
+package system.manager;
+
+import system.component.Source;
+import system.random.RandomStream;
+
+import java.util.List;
+
+interface ReplicableArrivalProcess extends ArrivalProcess {
+    ReplicableArrivalProcess copy(List<Source> sources);
+
+    ReplicableArrivalProcess branch(List<Source> sources, RandomStream random);
+}
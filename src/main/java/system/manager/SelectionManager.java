@@ -3,27 +3,91 @@ package system.manager;
 import system.component.Buffer;
 import system.component.Processor;
 import system.component.Request;
+import system.random.RandomStream;
+import system.util.IndexedMinHeap;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 public class SelectionManager {
+    private static final VarHandle SUCCESS_COUNT;
+
+    static {
+        try {
+            SUCCESS_COUNT = MethodHandles.lookup().findVarHandle(SelectionManager.class, "successCount", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final List<Processor> processors;
     private final List<List<Request>> successRequests;
+    private final List<SourceStatistics> successStatistics;
+    private final boolean keepRequests;
+    private int successCount;
+    private double lifeTimeSum;
     private final Buffer buffer;
+    private final IndexedMinHeap busyProcessors;
+    private final BitSet idleProcessors;
+    private final double[] processTimes;
     private Processor takeProcessor;
+    private int takeProcessorIndex;
     private Processor freeProcessor;
+    private int freeProcessorIndex;
     private Request lastRequest;
 
     public SelectionManager(List<Processor> processors, Buffer buffer, int sourceCount) {
+        this(processors, buffer, sourceCount, true);
+    }
+
+    public SelectionManager(List<Processor> processors, Buffer buffer, int sourceCount, boolean keepRequests) {
         this.processors = processors;
         this.takeProcessor = null;
+        this.takeProcessorIndex = -1;
         this.freeProcessor = null;
+        this.freeProcessorIndex = -1;
         this.buffer = buffer;
+        this.busyProcessors = new IndexedMinHeap(processors.size(), false);
+        this.idleProcessors = new BitSet(processors.size());
+        this.processTimes = new double[processors.size()];
         this.successRequests = new ArrayList<>();
+        this.successStatistics = new ArrayList<>();
+        this.keepRequests = keepRequests;
+        this.successCount = 0;
+        this.lifeTimeSum = 0;
         for (int i = 0; i < sourceCount; i++) {
             successRequests.add(new ArrayList<>());
+            successStatistics.add(new SourceStatistics());
+        }
+        for (int i = 0; i < processors.size(); i++) {
+            Processor processor = processors.get(i);
+            processTimes[i] = processor.getProcessTime();
+            if (processor.isWait()) {
+                idleProcessors.set(i);
+            } else {
+                busyProcessors.add(i, processor.getProcessTime());
+            }
+        }
+    }
+
+    public SelectionManager(SelectionManager manager, Buffer buffer, RandomStream random) {
+        this(branchProcessors(manager.processors, random), buffer, manager.successStatistics.size(), false);
+        for (int i = 0; i < successStatistics.size(); i++) {
+            successStatistics.set(i, new SourceStatistics(manager.successStatistics.get(i)));
+        }
+        this.successCount = manager.getFullSuccessCount();
+        this.lifeTimeSum = manager.lifeTimeSum;
+    }
+
+    private static List<Processor> branchProcessors(List<Processor> processors, RandomStream random) {
+        List<Processor> branches = new ArrayList<>(processors.size());
+        for (Processor processor : processors) {
+            branches.add(new Processor(processor, random.split()));
         }
+        return branches;
     }
 
     public List<Processor> getProcessors() {
@@ -34,6 +98,14 @@ public class SelectionManager {
         return successRequests;
     }
 
+    public List<SourceStatistics> getSuccessStatistics() {
+        return successStatistics;
+    }
+
+    public boolean isKeepRequests() {
+        return keepRequests;
+    }
+
     public boolean canTake() {
         return takeProcessor != null && !buffer.isEmpty();
     }
@@ -59,11 +131,11 @@ public class SelectionManager {
     }
 
     public int getFullSuccessCount() {
-        int counter = 0;
-        for (List<Request> ar : successRequests) {
-            counter += ar.size();
-        }
-        return counter;
+        return (int) SUCCESS_COUNT.getOpaque(this);
+    }
+
+    public double getLifeTimeSum() {
+        return lifeTimeSum;
     }
 
     public boolean putToProcessor() {
@@ -72,40 +144,46 @@ public class SelectionManager {
             lastRequest = buffer.takeRequest();
             double time = takeProcessor.getProcessTime() - lastRequest.getTime();
             lastRequest.setTimeInBuffer((time > 0) ? time : 0);
-            return takeProcessor.process(lastRequest);
+            boolean processed = takeProcessor.process(lastRequest);
+            if (processed) {
+                processTimes[takeProcessorIndex] = takeProcessor.getProcessTime();
+                idleProcessors.clear(takeProcessorIndex);
+                busyProcessors.add(takeProcessorIndex, takeProcessor.getProcessTime());
+            }
+            return processed;
         }
         return false;
     }
 
     public double freeProcessor() {
         lastRequest = freeProcessor.free();
-        successRequests.get(lastRequest.getSourceNumber()).add(lastRequest);
+        busyProcessors.remove(freeProcessorIndex);
+        idleProcessors.set(freeProcessorIndex);
+        int sourceNumber = lastRequest.getSourceNumber();
+        successStatistics.get(sourceNumber).add(lastRequest);
+        lifeTimeSum += lastRequest.getLifeTime();
+        SUCCESS_COUNT.setOpaque(this, successCount + 1);
+        if (keepRequests) {
+            successRequests.get(sourceNumber).add(lastRequest);
+        }
         return freeProcessor.getProcessTime();
     }
 
     public void selectNearestWorkEvent() {
-        takeProcessor = processors.get(0);
-        for (Processor current : processors) {
-            if (takeProcessor.getProcessTime() >= current.getProcessTime() && current.isWait()) {
-                takeProcessor = current;
+        double firstProcessTime = processTimes[0];
+        for (int i = idleProcessors.nextSetBit(0); i >= 0; i = idleProcessors.nextSetBit(i + 1)) {
+            if (firstProcessTime >= processTimes[i]) {
+                takeProcessor = processors.get(i);
+                takeProcessorIndex = i;
                 return;
             }
         }
-        if (!takeProcessor.isWait()) {
-            takeProcessor = null;
-        }
+        takeProcessor = null;
+        takeProcessorIndex = -1;
     }
 
     public void selectNearestFreeEvent() {
-        freeProcessor = processors.get(0);
-        for (Processor current : processors) {
-            if ((freeProcessor.getProcessTime() >= current.getProcessTime() && !current.isWait()) ||
-                    (!current.isWait() && freeProcessor.isWait())) {
-                freeProcessor = current;
-            }
-        }
-        if (freeProcessor.isWait()) {
-            freeProcessor = null;
-        }
+        freeProcessorIndex = busyProcessors.peek();
+        freeProcessor = freeProcessorIndex == -1 ? null : processors.get(freeProcessorIndex);
     }
 }
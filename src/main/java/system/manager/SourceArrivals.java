@@ -0,0 +1,58 @@
+package system.manager;
+
+import system.component.Request;
+import system.component.Source;
+import system.random.RandomStream;
+import system.util.IndexedMinHeap;
+
+import java.util.List;
+
+class SourceArrivals implements ReplicableArrivalProcess {
+    private final List<Source> sources;
+    private final IndexedMinHeap arrivals;
+
+    SourceArrivals(List<Source> sources) {
+        this.sources = sources;
+        this.arrivals = new IndexedMinHeap(sources.size(), true);
+        for (int i = 0; i < sources.size(); i++) {
+            arrivals.add(i, sources.get(i).getTime());
+        }
+    }
+
+    @Override
+    public int peekSource() {
+        return arrivals.peek();
+    }
+
+    @Override
+    public double peekTime() {
+        return arrivals.getKey(arrivals.peek());
+    }
+
+    @Override
+    public Request next() {
+        int index = arrivals.peek();
+        Source source = sources.get(index);
+        Request request = source.getRequestAndGenerate();
+        arrivals.update(index, source.getTime());
+        return request;
+    }
+
+    @Override
+    public void skip() {
+        int index = arrivals.peek();
+        Source source = sources.get(index);
+        source.skipAndGenerate();
+        arrivals.update(index, source.getTime());
+    }
+
+    @Override
+    public SourceArrivals copy(List<Source> sources) {
+        return new SourceArrivals(sources);
+    }
+
+    @Override
+    public SourceArrivals branch(List<Source> sources, RandomStream random) {
+        return new SourceArrivals(sources);
+    }
+}
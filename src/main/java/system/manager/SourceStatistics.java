@@ -0,0 +1,44 @@
+package system.manager;
+
+import system.component.Request;
+import system.util.WelfordAccumulator;
+
+public class SourceStatistics {
+    private final WelfordAccumulator bufferTime;
+    private final WelfordAccumulator processTime;
+    private final WelfordAccumulator lifeTime;
+
+    public SourceStatistics() {
+        this.bufferTime = new WelfordAccumulator();
+        this.processTime = new WelfordAccumulator();
+        this.lifeTime = new WelfordAccumulator();
+    }
+
+    public SourceStatistics(SourceStatistics statistics) {
+        this.bufferTime = new WelfordAccumulator(statistics.bufferTime);
+        this.processTime = new WelfordAccumulator(statistics.processTime);
+        this.lifeTime = new WelfordAccumulator(statistics.lifeTime);
+    }
+
+    public void add(Request request) {
+        bufferTime.add(request.getTimeInBuffer());
+        processTime.add(request.getTimeInProcessor());
+        lifeTime.add(request.getLifeTime());
+    }
+
+    public long getCount() {
+        return lifeTime.getCount();
+    }
+
+    public WelfordAccumulator getBufferTime() {
+        return bufferTime;
+    }
+
+    public WelfordAccumulator getProcessTime() {
+        return processTime;
+    }
+
+    public WelfordAccumulator getLifeTime() {
+        return lifeTime;
+    }
+}
@@ -0,0 +1,67 @@
+package system.random;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+public class AliasTable {
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    public AliasTable(List<Double> weights) {
+        if (weights == null || weights.isEmpty()) throw new IllegalArgumentException("Alias table weights should not be empty");
+        int size = weights.size();
+        double total = 0;
+        for (Double weight : weights) {
+            if (weight == null || !(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Alias table weight should be finite and not negative");
+            }
+            total += weight;
+        }
+        if (total <= 0) throw new IllegalArgumentException("Alias table weights sum should be greater than 0");
+
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+        double[] scaled = new double[size];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights.get(i) * size / total;
+            aliases[i] = i;
+            if (scaled[i] < 1) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+        while (!large.isEmpty()) {
+            probabilities[large.pop()] = 1;
+        }
+        while (!small.isEmpty()) {
+            probabilities[small.pop()] = 1;
+        }
+    }
+
+    public int size() {
+        return probabilities.length;
+    }
+
+    public int next(RandomStream random) {
+        long bits = random.nextLong();
+        int column = (int) (((bits >>> 32) * probabilities.length) >>> 32);
+        double coin = (bits & 0xffffffffL) * 0x1.0p-32;
+        return coin < probabilities[column] ? column : aliases[column];
+    }
+}
@@ -0,0 +1,25 @@
+package system.random;
+
+public class AntitheticStream implements RandomStream {
+    private final RandomStream stream;
+
+    public AntitheticStream(RandomStream stream) {
+        if (stream == null) throw new IllegalArgumentException("Stream should be set");
+        this.stream = stream;
+    }
+
+    @Override
+    public long nextLong() {
+        return ~stream.nextLong();
+    }
+
+    @Override
+    public AntitheticStream split() {
+        return new AntitheticStream(stream.split());
+    }
+
+    @Override
+    public AntitheticStream copy() {
+        return new AntitheticStream(stream.copy());
+    }
+}
@@ -0,0 +1,78 @@
+package system.random;
+
+public final class ExponentialBatch {
+    static final long EXPONENT_OFFSET = 0x3ff0000000000000L - 0x3fe6a09e00000000L;
+    static final long MANTISSA_MASK = 0x000fffffffffffffL;
+    static final long REDUCED_EXPONENT = 0x3fe6a09e00000000L;
+    static final double LN2_HI = 6.93147180369123816490e-01;
+    static final double LN2_LO = 1.90821492927058770002e-10;
+    static final double LG1 = 6.666666666666735130e-01;
+    static final double LG2 = 3.999999999940941908e-01;
+    static final double LG3 = 2.857142874366239149e-01;
+    static final double LG4 = 2.222219843214978396e-01;
+    static final double LG5 = 1.818357216161805012e-01;
+    static final double LG6 = 1.531383769920937332e-01;
+    static final double LG7 = 1.479819860511658591e-01;
+
+    private static final String VECTOR_TRANSFORM = "system.random.VectorExponentialTransform";
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final ExponentialTransform TRANSFORM = loadVectorTransform();
+
+    private ExponentialBatch() {
+    }
+
+    public static boolean isVectorized() {
+        return TRANSFORM != null;
+    }
+
+    public static double next(RandomStream random, double scale) {
+        return -scale * logComplement(random.nextDouble());
+    }
+
+    public static void fill(RandomStream random, double scale, double[] block) {
+        if (TRANSFORM == null) {
+            fillScalar(random, scale, block);
+        } else {
+            fillUniform(random, block);
+            TRANSFORM.apply(block, scale);
+        }
+    }
+
+    public static void fillScalar(RandomStream random, double scale, double[] block) {
+        fillUniform(random, block);
+        double negativeScale = -scale;
+        for (int i = 0; i < block.length; i++) {
+            block[i] = negativeScale * logComplement(block[i]);
+        }
+    }
+
+    private static void fillUniform(RandomStream random, double[] block) {
+        for (int i = 0; i < block.length; i++) {
+            block[i] = random.nextDouble();
+        }
+    }
+
+    static double logComplement(double u) {
+        long bits = Double.doubleToRawLongBits(1.0 - u) + EXPONENT_OFFSET;
+        double k = (bits >> 52) - 0x3ff;
+        double f = Double.longBitsToDouble((bits & MANTISSA_MASK) + REDUCED_EXPONENT) - 1.0;
+        double halfSquare = f * 0.5 * f;
+        double s = f / (f + 2.0);
+        double z = s * s;
+        double w = z * z;
+        double t1 = w * (w * (w * LG6 + LG4) + LG2);
+        double t2 = z * (w * (w * (w * LG7 + LG5) + LG3) + LG1);
+        return s * (halfSquare + (t2 + t1)) + k * LN2_LO - halfSquare + f + k * LN2_HI;
+    }
+
+    private static ExponentialTransform loadVectorTransform() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (ExponentialTransform) Class.forName(VECTOR_TRANSFORM).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package system.random;
+
+interface ExponentialTransform {
+    void apply(double[] block, double scale);
+}
@@ -0,0 +1,13 @@
+package system.random;
+
+public interface RandomStream {
+    long nextLong();
+
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    RandomStream split();
+
+    RandomStream copy();
+}
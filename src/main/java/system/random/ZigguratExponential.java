@@ -0,0 +1,52 @@
+package system.random;
+
+public final class ZigguratExponential {
+    private static final int LAYERS = 256;
+    private static final double R = 7.697117470131487;
+    private static final double V = 3.949659822581572e-3;
+    private static final double M = 4294967296.0;
+
+    private static final long[] K = new long[LAYERS];
+    private static final double[] W = new double[LAYERS];
+    private static final double[] F = new double[LAYERS];
+
+    static {
+        double d = R;
+        double t = d;
+        double q = V / Math.exp(-d);
+        K[0] = (long) ((d / q) * M);
+        K[1] = 0;
+        W[0] = q / M;
+        W[LAYERS - 1] = d / M;
+        F[0] = 1.0;
+        F[LAYERS - 1] = Math.exp(-d);
+        for (int i = LAYERS - 2; i >= 1; i--) {
+            d = -Math.log(V / d + Math.exp(-d));
+            K[i + 1] = (long) ((d / t) * M);
+            t = d;
+            F[i] = Math.exp(-d);
+            W[i] = d / M;
+        }
+    }
+
+    private ZigguratExponential() {
+    }
+
+    public static double next(RandomStream random) {
+        while (true) {
+            long bits = random.nextLong();
+            int layer = (int) bits & (LAYERS - 1);
+            long jz = bits >>> 32;
+            double x = jz * W[layer];
+            if (jz < K[layer]) {
+                return x;
+            }
+            if (layer == 0) {
+                return R - Math.log(1.0 - random.nextDouble());
+            }
+            if (F[layer] + random.nextDouble() * (F[layer - 1] - F[layer]) < Math.exp(-x)) {
+                return x;
+            }
+        }
+    }
+}
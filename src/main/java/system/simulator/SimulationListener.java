@@ -0,0 +1,6 @@
+package system.simulator;
+
+@FunctionalInterface
+public interface SimulationListener {
+    boolean stepCompleted(Simulator simulator);
+}
@@ -0,0 +1,4 @@
+package system.simulator;
+
+public record SimulationStepResult(SimulatorEvent.EventType type, boolean canContinue) {
+}
@@ -7,9 +7,8 @@ import system.component.Request;
 import system.component.Source;
 import system.manager.ProductionManager;
 import system.manager.SelectionManager;
+import system.random.RandomStream;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.util.List;
 
 public class Simulator {
@@ -17,6 +16,8 @@ public class Simulator {
         INIT, GENERATE, PLACE, RELEASE, PACKAGE, TAKE, END, ANALYZE
     }
 
+    private static final int PIPELINE_CAPACITY = 4096;
+
     private final Buffer buffer;
     private double endTime = 0;
     private final SimulatorEvent lastEvent;
@@ -24,29 +25,61 @@ public class Simulator {
     private final ProductionManager productionManager;
     private final SelectionManager selectionManager;
 
-    private final NumberFormat formatter = new DecimalFormat("#0.000");
     private SimulationStep nextStep = SimulationStep.INIT;
     private Request lastRequest = null;
-    private boolean nextIteration = false;
+    private SimulationListener listener = null;
 
     public Simulator(SimulationConfig config) {
+        this(config, true);
+    }
+
+    public Simulator(SimulationConfig config, boolean keepRequests) {
+        this(config, config.getConfig().getRequestsCount(), keepRequests);
+    }
+
+    public Simulator(SimulationConfig config, int requestsCount, boolean keepRequests) {
         this.buffer = config.createBuffer();
-        this.productionManager = config.createProductionManager(this.buffer);
-        this.selectionManager = config.createSelectionManager(this.buffer);
+        this.productionManager = config.createProductionManager(this.buffer, requestsCount, keepRequests);
+        this.selectionManager = config.createSelectionManager(this.buffer, keepRequests);
         this.lastEvent = new SimulatorEvent();
     }
 
     public Simulator(List<Source> sources, Buffer buffer, List<Processor> processors, int requestsCount) {
+        this(sources, buffer, processors, requestsCount, true);
+    }
+
+    public Simulator(List<Source> sources, Buffer buffer, List<Processor> processors, int requestsCount,
+                     boolean keepRequests) {
         this.buffer = buffer;
-        this.productionManager = new ProductionManager(sources, buffer, requestsCount);
-        this.selectionManager = new SelectionManager(processors, buffer, sources.size());
+        this.productionManager = new ProductionManager(sources, buffer, requestsCount, keepRequests);
+        this.selectionManager = new SelectionManager(processors, buffer, sources.size(), keepRequests);
         this.lastEvent = new SimulatorEvent();
     }
 
+    private Simulator(Simulator simulator, RandomStream random) {
+        this.buffer = new Buffer(simulator.buffer);
+        this.productionManager = new ProductionManager(simulator.productionManager, buffer, random);
+        this.selectionManager = new SelectionManager(simulator.selectionManager, buffer, random);
+        this.lastEvent = new SimulatorEvent(simulator.lastEvent.getFormatter());
+        this.endTime = simulator.endTime;
+        this.nextStep = simulator.nextStep;
+    }
+
+    public Simulator branch(RandomStream random) {
+        if (nextStep != SimulationStep.INIT && nextStep != SimulationStep.GENERATE) {
+            throw new IllegalStateException("Simulator can be branched only between headless steps");
+        }
+        return new Simulator(this, random);
+    }
+
     public double getEndTime() {
         return endTime;
     }
 
+    public Buffer getBuffer() {
+        return buffer;
+    }
+
     public ProductionManager getProductionManager() {
         return productionManager;
     }
@@ -63,194 +96,238 @@ public class Simulator {
         return (productionManager.getFullRejectCount() + selectionManager.getFullSuccessCount());
     }
 
+    public void setListener(SimulationListener listener) {
+        this.listener = listener;
+    }
+
+    public void stopGeneration() {
+        productionManager.setMaxRequestCount(productionManager.getCurrentRequestCount());
+    }
+
+    public void enableArrivalPipeline() {
+        productionManager.enablePipeline(PIPELINE_CAPACITY);
+    }
+
+    public void stopArrivalPipeline() {
+        productionManager.stopPipeline();
+    }
+
     public boolean canContinue() {
         return nextStep != null;
     }
 
     public boolean simulationStep() {
-        try {
-            if (nextStep == null) {
-                return false;
-            }
+        return nextSimulationStep().canContinue();
+    }
 
-            processInitStep();
-            processGenerateStep();
-            processPlaceStep();
-            processReleaseStep();
-            processEndStep();
-            processAnalyzeStep();
-            processPackageStep();
-            processTakeStep();
-
-            if (!nextIteration) {
-                nextIteration = true;
-                nextStep = SimulationStep.GENERATE;
-                boolean state = simulationStep();
-                if (state) nextIteration = false;
-                return state;
-            } else {
-                nextStep = null;
-                return false;
+    public SimulationStepResult nextSimulationStep() {
+        if (nextStep != null) {
+            lastEvent.setBuffer(null);
+        }
+        while (nextStep != null) {
+            boolean completed = switch (nextStep) {
+                case INIT -> processInitStep();
+                case GENERATE -> processGenerateStep();
+                case PLACE -> processPlaceStep();
+                case RELEASE -> processReleaseStep();
+                case END -> processEndStep();
+                case ANALYZE -> processAnalyzeStep();
+                case PACKAGE -> processPackageStep();
+                case TAKE -> processTakeStep();
+            };
+            if (completed) {
+                return new SimulationStepResult(lastEvent.getType(), nextStep != null);
             }
-        } catch (SimulationStepCompleteException complete) {
-            return complete.getState();
         }
+        return new SimulationStepResult(lastEvent.getType(), false);
     }
 
-    private void processInitStep() {
-        if (nextStep == SimulationStep.INIT) {
-            nextStep = SimulationStep.GENERATE;
-        }
+    private boolean processInitStep() {
+        nextStep = SimulationStep.GENERATE;
+        return false;
     }
 
-    private void processGenerateStep() throws SimulationStepCompleteException {
-        if (nextStep == SimulationStep.GENERATE) {
-            productionManager.selectNearestEvent();
-            selectionManager.selectNearestFreeEvent();
-            if (productionManager.canGenerate() &&
-                    ((selectionManager.canFree() && productionManager.getTime() < selectionManager.getFreeTime()) ||
-                            !selectionManager.canFree())) {
-                productionManager.generate();
-                Request request = productionManager.getLastRequest();
+    private boolean processGenerateStep() {
+        if (selectNextEvent()) {
+            productionManager.generate();
+            Request request = productionManager.getLastRequest();
 
-                //sGenerate
-                lastEvent.setType(SimulatorEvent.EventType.GENERATE);
-                lastEvent.setRequest(request);
-                lastEvent.setLog(getRequestString(request) + " was generated in " +
-                        formatter.format(request.getTime()) + " [" + productionManager.getCurrentRequestCount() +
-                        "/" + productionManager.getMaxRequestCount() + "]\n");
+            //sGenerate
+            lastEvent.setType(SimulatorEvent.EventType.GENERATE);
+            lastEvent.setRequest(request);
+            lastEvent.setTime(request.getTime());
+            lastEvent.setRequestCount(productionManager.getCurrentRequestCount(), productionManager.getMaxRequestCount());
 
-                lastRequest = request;
-                nextStep = SimulationStep.PLACE;
-                throw new SimulationStepCompleteException(true);
-            }
-            nextStep = SimulationStep.RELEASE;
+            lastRequest = request;
+            nextStep = SimulationStep.PLACE;
+            return true;
         }
+        nextStep = SimulationStep.RELEASE;
+        return false;
     }
 
-    private void processPlaceStep() throws SimulationStepCompleteException {
-        if (nextStep == SimulationStep.PLACE) {
-            Request request = lastRequest;
-            boolean successPutToBuffer = productionManager.putToBufferOrReject();
-            boolean successTake = selectionManager.putToProcessor();
-            if (successPutToBuffer) {
-                if (successTake) {
-                    //sTake
-                    Processor takeProc = selectionManager.getTakeProcessor();
-                    lastEvent.setType(SimulatorEvent.EventType.TAKE);
-                    lastEvent.setRequest(request);
-                    lastEvent.setProcessor(takeProc);
-                    lastEvent.setBuffer(null);
-                    lastEvent.setLog(getProcessorString(takeProc) + " take " + getRequestString(request) + " in " +
-                            formatter.format(request.getTime() + request.getTimeInBuffer()) + "\n");
-                } else {
-                    //sBuffer
-                    lastEvent.setType(SimulatorEvent.EventType.BUFFER);
-                    lastEvent.setRequest(request);
-                    lastEvent.setBuffer(buffer);
-                    lastEvent.setLog(getRequestString(request) + " put to Buffer " +
-                            buffer.getSize() + "/" + buffer.getCapacity() + "\n");
-                }
+    private boolean processPlaceStep() {
+        Request request = lastRequest;
+        boolean successPutToBuffer = productionManager.putToBufferOrReject();
+        boolean successTake = selectionManager.putToProcessor();
+        if (successPutToBuffer) {
+            if (successTake) {
+                //sTake
+                Processor takeProc = selectionManager.getTakeProcessor();
+                lastEvent.setType(SimulatorEvent.EventType.TAKE);
+                lastEvent.setRequest(request);
+                lastEvent.setProcessor(takeProc);
+                lastEvent.setBuffer(null);
+                lastEvent.setTime(request.getTime() + request.getTimeInBuffer());
             } else {
-                //sReject
-                lastEvent.setType(SimulatorEvent.EventType.REJECT);
+                //sBuffer
+                lastEvent.setType(SimulatorEvent.EventType.BUFFER);
                 lastEvent.setRequest(request);
-                lastEvent.setLog(getRequestString(request) + " was rejected\n");
+                lastEvent.setBuffer(buffer);
             }
+        } else {
+            //sReject
+            lastEvent.setType(SimulatorEvent.EventType.REJECT);
+            lastEvent.setRequest(request);
+        }
 
-            lastRequest = null;
+        lastRequest = null;
+        nextStep = SimulationStep.PACKAGE;
+        return true;
+    }
+
+    private boolean processReleaseStep() {
+        if (selectionManager.canFree()) {
+            endTime = selectionManager.freeProcessor();
+
+            //sRelease
+            Request request = selectionManager.getLastRequest();
+            Processor processor = selectionManager.getFreeProcessor();
+            lastEvent.setType(SimulatorEvent.EventType.RELEASE);
+            lastEvent.setRequest(request);
+            lastEvent.setProcessor(processor);
+            lastEvent.setTime(processor.getProcessTime());
             nextStep = SimulationStep.PACKAGE;
-            throw new SimulationStepCompleteException(true);
+            return true;
         }
+        nextStep = SimulationStep.END;
+        return true;
     }
 
-    private void processReleaseStep() throws SimulationStepCompleteException {
-        if (nextStep == SimulationStep.RELEASE) {
-            if (selectionManager.canFree()) {
-                endTime = selectionManager.freeProcessor();
+    private boolean processEndStep() {
+        lastEvent.setType(SimulatorEvent.EventType.WORK_END);
+        nextStep = SimulationStep.ANALYZE;
+        return true;
+    }
 
-                //sRelease
-                Request request = selectionManager.getLastRequest();
-                Processor processor = selectionManager.getFreeProcessor();
-                lastEvent.setType(SimulatorEvent.EventType.RELEASE);
-                lastEvent.setRequest(request);
-                lastEvent.setProcessor(processor);
-                lastEvent.setLog(getProcessorString(processor) + " release " + getRequestString(request) +
-                        " in " + formatter.format(processor.getProcessTime()) + "\n");
-                nextStep = SimulationStep.PACKAGE;
-                throw new SimulationStepCompleteException(true);
-            }
-            nextStep = SimulationStep.END;
-            throw new SimulationStepCompleteException(true);
+    private boolean processAnalyzeStep() {
+        lastEvent.setType(SimulatorEvent.EventType.ANALYZE);
+        nextStep = null;
+        return true;
+    }
+
+    private boolean processTakeStep() {
+        boolean successTake = selectionManager.putToProcessor();
+        nextStep = SimulationStep.GENERATE;
+        if (successTake) {
+            //sTake
+            Processor takeProc = selectionManager.getTakeProcessor();
+            Request request = takeProc.getRequest();
+            lastEvent.setType(SimulatorEvent.EventType.TAKE);
+            lastEvent.setRequest(request);
+            lastEvent.setProcessor(takeProc);
+            lastEvent.setBuffer(buffer);
+            lastEvent.setTime(request.getTime() + request.getTimeInBuffer());
+            return true;
         }
+        return false;
     }
 
-    private void processEndStep() throws SimulationStepCompleteException {
-        if (nextStep == SimulationStep.END) {
-            lastEvent.setType(SimulatorEvent.EventType.WORK_END);
-            lastEvent.setLog("Simulation complete.\nYou can create Result Table. Press 'Next Step'\n");
-            nextStep = SimulationStep.ANALYZE;
-            throw new SimulationStepCompleteException(true);
+    private boolean processPackageStep() {
+        selectionManager.selectNearestWorkEvent();
+        nextStep = SimulationStep.TAKE;
+        if (buffer.getRequestsPackage().isEmpty() && selectionManager.canTake()) {
+            buffer.createPackage();
+            lastEvent.setType(SimulatorEvent.EventType.PACKAGE);
+            lastEvent.setBuffer(buffer);
+            lastEvent.setPackage(buffer.getRequestsPackage());
+            return true;
         }
+        return false;
+    }
+
+    private boolean selectNextEvent() {
+        productionManager.selectNearestEvent();
+        selectionManager.selectNearestFreeEvent();
+        return productionManager.canGenerate() &&
+                ((selectionManager.canFree() && productionManager.getTime() < selectionManager.getFreeTime()) ||
+                        !selectionManager.canFree());
     }
 
-    private void processAnalyzeStep() throws SimulationStepCompleteException {
-        if (nextStep == SimulationStep.ANALYZE) {
+    public boolean headlessStep() {
+        if (nextStep != SimulationStep.INIT && nextStep != SimulationStep.GENERATE) {
+            while (nextStep != null && nextStep != SimulationStep.GENERATE) {
+                nextSimulationStep();
+            }
+            return nextStep != null;
+        }
+        if (selectNextEvent()) {
+            if (isSaturated()) {
+                double freeTime = selectionManager.canFree() ? selectionManager.getFreeTime() : Double.POSITIVE_INFINITY;
+                productionManager.rejectUntil(freeTime);
+            } else {
+                productionManager.generate();
+                productionManager.putToBufferOrReject();
+                selectionManager.putToProcessor();
+            }
+        } else if (selectionManager.canFree()) {
+            endTime = selectionManager.freeProcessor();
+        } else {
             lastEvent.setType(SimulatorEvent.EventType.ANALYZE);
             nextStep = null;
-            throw new SimulationStepCompleteException(false);
+            return false;
+        }
+        selectionManager.putToProcessor();
+        nextStep = SimulationStep.GENERATE;
+        if (listener != null && productionManager.canGenerate() && !listener.stepCompleted(this)) {
+            stopGeneration();
         }
+        return true;
     }
 
-    private void processTakeStep() throws SimulationStepCompleteException {
-        if (nextStep == SimulationStep.TAKE) {
-            boolean successTake = selectionManager.putToProcessor();
-            if (successTake) {
-                //sTake
-                Processor takeProc = selectionManager.getTakeProcessor();
-                Request request = takeProc.getRequest();
-                lastEvent.setType(SimulatorEvent.EventType.TAKE);
-                lastEvent.setRequest(request);
-                lastEvent.setProcessor(takeProc);
-                lastEvent.setBuffer(buffer);
-                lastEvent.setLog(getProcessorString(takeProc) + " take " + getRequestString(request) + " in " +
-                        formatter.format(request.getTime() + request.getTimeInBuffer()) + " from Buffer(" +
-                        buffer.getTakeIndex() + ")\n");
-                nextStep = SimulationStep.GENERATE;
-                throw new SimulationStepCompleteException(true);
-            }
-        }
+    private boolean isSaturated() {
+        if (!buffer.isFull()) return false;
+        selectionManager.selectNearestWorkEvent();
+        return !selectionManager.canTake();
     }
 
-    private void processPackageStep() throws SimulationStepCompleteException {
-        if (nextStep == SimulationStep.PACKAGE) {
-            selectionManager.selectNearestWorkEvent();
-            if (buffer.getRequestsPackage().isEmpty() && selectionManager.canTake()) {
-                buffer.createPackage();
-                lastEvent.setType(SimulatorEvent.EventType.PACKAGE);
-                lastEvent.setBuffer(buffer);
-                List<String> requests = buffer.getRequestsPackage().stream()
-                        .map(r -> "%d.%d".formatted(r.getSourceNumber(), r.getNumber()))
-                        .toList();
-                lastEvent.setLog("Create Package: " + String.join(", ", requests) + '\n');
-                nextStep = SimulationStep.TAKE;
-                throw new SimulationStepCompleteException(true);
-            }
-            nextStep = SimulationStep.TAKE;
+    public void runUntilLimit() {
+        boolean canContinue = true;
+        while (canContinue && productionManager.canGenerate()) {
+            canContinue = headlessStep();
         }
     }
 
-    private String getProcessorString(Processor processor) {
-        return "Processor #" + processor.getNumber();
+    public void extend(int requestsCount) {
+        if (requestsCount < productionManager.getMaxRequestCount()) {
+            throw new IllegalArgumentException("Requests count should not be less than current max request count");
+        }
+        if (productionManager.isPipelined()) throw new IllegalStateException("Pipelined simulation can not be extended");
+        if (!canContinue() || nextStep == SimulationStep.END || nextStep == SimulationStep.ANALYZE ||
+                endTime > productionManager.getTime()) {
+            throw new IllegalStateException("Simulation went past next arrival and can not be extended");
+        }
+        productionManager.setMaxRequestCount(requestsCount);
     }
 
-    private String getRequestString(Request request) {
-        return "Request #" + request.getSourceNumber() + "." + request.getNumber();
+    public void runToCompletion() {
+        boolean canContinue = true;
+        while (canContinue) {
+            canContinue = headlessStep();
+        }
     }
 
     public void fullSimulation() {
-        do {
-            simulationStep();
-        } while (canContinue());
+        runToCompletion();
     }
 }
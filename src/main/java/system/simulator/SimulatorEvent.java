@@ -1,27 +1,65 @@
 package system.simulator;
 
 import system.component.Buffer;
+import system.component.BufferSnapshot;
 import system.component.Processor;
 import system.component.Request;
 import system.util.TakeUtil;
 
+import java.util.List;
+
 public class SimulatorEvent {
     public enum EventType {
         GENERATE, PACKAGE, TAKE, BUFFER, REJECT, RELEASE, WORK_END, ANALYZE
     }
 
+    private static final int[] EMPTY_PACKAGE = new int[0];
+
+    private final SimulatorEventFormatter formatter;
     private EventType type;
     private Request request;
-    private Processor processor;
-    private Buffer buffer;
-    private String log;
+    private BufferSnapshot buffer;
+
+    private int sourceNumber;
+    private int requestNumber;
+    private int processorNumber;
+    private double processTime;
+    private double workTime;
+    private double time;
+    private int requestCount;
+    private int maxRequestCount;
+    private int bufferSize;
+    private int bufferCapacity;
+    private int takeIndex;
+    private int[] packageSources;
+    private int[] packageNumbers;
 
     public SimulatorEvent() {
+        this(new SimulatorEventFormatter());
+    }
+
+    public SimulatorEvent(SimulatorEventFormatter formatter) {
+        this.formatter = formatter;
         this.type = null;
         this.request = null;
-        this.processor = null;
         this.buffer = null;
-        this.log = "";
+        this.sourceNumber = -1;
+        this.requestNumber = -1;
+        this.processorNumber = -1;
+        this.processTime = 0;
+        this.workTime = 0;
+        this.time = 0;
+        this.requestCount = 0;
+        this.maxRequestCount = 0;
+        this.bufferSize = 0;
+        this.bufferCapacity = 0;
+        this.takeIndex = -1;
+        this.packageSources = EMPTY_PACKAGE;
+        this.packageNumbers = EMPTY_PACKAGE;
+    }
+
+    SimulatorEventFormatter getFormatter() {
+        return formatter;
     }
 
     public EventType getType() {
@@ -38,29 +76,112 @@ public class SimulatorEvent {
 
     public void setRequest(Request request) {
         this.request = TakeUtil.transformOrNull(request, Request::new);
-    }
-
-    public Processor getProcessor() {
-        return TakeUtil.transformOrNull(processor, Processor::new);
+        if (request != null) {
+            this.sourceNumber = request.getSourceNumber();
+            this.requestNumber = request.getNumber();
+        }
     }
 
     public void setProcessor(Processor processor) {
-        this.processor = TakeUtil.transformOrNull(processor, Processor::new);
+        if (processor != null) {
+            this.processorNumber = processor.getNumber();
+            this.processTime = processor.getProcessTime();
+            this.workTime = processor.getWorkTime();
+        } else {
+            this.processorNumber = -1;
+        }
     }
 
-    public Buffer getBuffer() {
-        return TakeUtil.transformOrNull(buffer, Buffer::new);
+    public BufferSnapshot getBuffer() {
+        return buffer == null ? null : buffer.retain();
     }
 
     public void setBuffer(Buffer buffer) {
-        this.buffer = TakeUtil.transformOrNull(buffer, Buffer::new);
+        if (this.buffer != null) {
+            this.buffer.release();
+        }
+        this.buffer = buffer == null ? null : buffer.snapshot();
+        if (buffer != null) {
+            this.bufferSize = buffer.getSize();
+            this.bufferCapacity = buffer.getCapacity();
+            this.takeIndex = buffer.getTakeIndex();
+        } else {
+            this.takeIndex = -1;
+        }
     }
 
-    public String getLog() {
-        return log;
+    public void setPackage(List<Request> requestsPackage) {
+        packageSources = new int[requestsPackage.size()];
+        packageNumbers = new int[requestsPackage.size()];
+        for (int i = 0; i < requestsPackage.size(); i++) {
+            Request request = requestsPackage.get(i);
+            packageSources[i] = request.getSourceNumber();
+            packageNumbers[i] = request.getNumber();
+        }
     }
 
-    public void setLog(String log) {
-        this.log = log;
+    public void setTime(double time) {
+        this.time = time;
+    }
+
+    public void setRequestCount(int requestCount, int maxRequestCount) {
+        this.requestCount = requestCount;
+        this.maxRequestCount = maxRequestCount;
+    }
+
+    public int getSourceNumber() {
+        return sourceNumber;
+    }
+
+    public int getRequestNumber() {
+        return requestNumber;
+    }
+
+    public int getProcessorNumber() {
+        return processorNumber;
+    }
+
+    public double getProcessTime() {
+        return processTime;
+    }
+
+    public double getWorkTime() {
+        return workTime;
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    public int getMaxRequestCount() {
+        return maxRequestCount;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public int getTakeIndex() {
+        return takeIndex;
+    }
+
+    public int[] getPackageSources() {
+        return packageSources.clone();
+    }
+
+    public int[] getPackageNumbers() {
+        return packageNumbers.clone();
+    }
+
+    public String getLog() {
+        return formatter.format(this);
     }
 }
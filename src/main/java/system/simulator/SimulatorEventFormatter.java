@@ -0,0 +1,50 @@
+package system.simulator;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+
+public class SimulatorEventFormatter {
+    private final NumberFormat formatter = new DecimalFormat("#0.000");
+
+    public String format(SimulatorEvent event) {
+        if (event.getType() == null) {
+            return "";
+        }
+        return switch (event.getType()) {
+            case GENERATE -> getRequestString(event) + " was generated in " + formatter.format(event.getTime()) +
+                    " [" + event.getRequestCount() + "/" + event.getMaxRequestCount() + "]\n";
+            case TAKE -> getProcessorString(event) + " take " + getRequestString(event) + " in " +
+                    formatter.format(event.getTime()) +
+                    (event.getTakeIndex() < 0 ? "" : " from Buffer(" + event.getTakeIndex() + ")") + "\n";
+            case BUFFER -> getRequestString(event) + " put to Buffer " +
+                    event.getBufferSize() + "/" + event.getBufferCapacity() + "\n";
+            case REJECT -> getRequestString(event) + " was rejected\n";
+            case RELEASE -> getProcessorString(event) + " release " + getRequestString(event) +
+                    " in " + formatter.format(event.getTime()) + "\n";
+            case PACKAGE -> "Create Package: " + getPackageString(event) + '\n';
+            case WORK_END -> "Simulation complete.\nYou can create Result Table. Press 'Next Step'\n";
+            case ANALYZE -> "";
+        };
+    }
+
+    private String getProcessorString(SimulatorEvent event) {
+        return "Processor #" + event.getProcessorNumber();
+    }
+
+    private String getRequestString(SimulatorEvent event) {
+        return "Request #" + event.getSourceNumber() + "." + event.getRequestNumber();
+    }
+
+    private String getPackageString(SimulatorEvent event) {
+        int[] sources = event.getPackageSources();
+        int[] numbers = event.getPackageNumbers();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sources.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(sources[i]).append('.').append(numbers[i]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package system.util;
+
+import java.util.Arrays;
+
+public class IndexedMinHeap {
+    private final double[] keys;
+    private final int[] heap;
+    private final int[] positions;
+    private final boolean lowerIndexFirst;
+    private int size;
+
+    public IndexedMinHeap(int capacity, boolean lowerIndexFirst) {
+        if (capacity < 0) throw new IllegalArgumentException("Heap capacity should not be negative");
+        this.keys = new double[capacity];
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.lowerIndexFirst = lowerIndexFirst;
+        this.size = 0;
+        Arrays.fill(positions, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int index) {
+        return positions[index] != -1;
+    }
+
+    public int peek() {
+        return size == 0 ? -1 : heap[0];
+    }
+
+    public double getKey(int index) {
+        return keys[index];
+    }
+
+    public void add(int index, double key) {
+        if (contains(index)) throw new IllegalArgumentException("Index " + index + " is already in heap");
+        keys[index] = key;
+        heap[size] = index;
+        positions[index] = size;
+        siftUp(size++);
+    }
+
+    public void update(int index, double key) {
+        if (!contains(index)) throw new IllegalArgumentException("Index " + index + " is not in heap");
+        double oldKey = keys[index];
+        keys[index] = key;
+        if (key < oldKey) {
+            siftUp(positions[index]);
+        } else {
+            siftDown(positions[index]);
+        }
+    }
+
+    public void remove(int index) {
+        if (!contains(index)) return;
+        int position = positions[index];
+        int last = heap[--size];
+        positions[index] = -1;
+        if (position == size) return;
+        heap[position] = last;
+        positions[last] = position;
+        siftUp(position);
+        siftDown(positions[last]);
+    }
+
+    private boolean before(int first, int second) {
+        double firstKey = keys[first];
+        double secondKey = keys[second];
+        if (firstKey != secondKey) {
+            return firstKey < secondKey;
+        }
+        return lowerIndexFirst ? first < second : first > second;
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+        while (position > 0) {
+            int parentPosition = (position - 1) >>> 1;
+            int parent = heap[parentPosition];
+            if (!before(index, parent)) break;
+            heap[position] = parent;
+            positions[parent] = position;
+            position = parentPosition;
+        }
+        heap[position] = index;
+        positions[index] = position;
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int childPosition = 2 * position + 1;
+            int child = heap[childPosition];
+            int rightPosition = childPosition + 1;
+            if (rightPosition < size && before(heap[rightPosition], child)) {
+                childPosition = rightPosition;
+                child = heap[childPosition];
+            }
+            if (!before(child, index)) break;
+            heap[position] = child;
+            positions[child] = position;
+            position = childPosition;
+        }
+        heap[position] = index;
+        positions[index] = position;
+    }
+}
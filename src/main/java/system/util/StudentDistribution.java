@@ -0,0 +1,85 @@
+package system.util;
+
+public final class StudentDistribution {
+    private static final int MAX_ITERATIONS = 300;
+    private static final double EPSILON = 1e-15;
+    private static final double MIN_VALUE = 1e-300;
+    private static final double[] LANCZOS = {
+            76.18009172947146, -86.50532032941677, 24.01409824083091,
+            -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5
+    };
+
+    private StudentDistribution() {
+    }
+
+    public static double cdf(double t, int degreesOfFreedom) {
+        if (degreesOfFreedom < 1) throw new IllegalArgumentException("Degrees of freedom should be greater than 0");
+        double tail = 0.5 * regularizedBeta(degreesOfFreedom / (degreesOfFreedom + t * t), degreesOfFreedom / 2.0, 0.5);
+        return t > 0 ? 1 - tail : tail;
+    }
+
+    public static double quantile(double probability, int degreesOfFreedom) {
+        if (!(probability > 0 && probability < 1)) throw new IllegalArgumentException("Probability should be in (0, 1)");
+        if (probability < 0.5) return -quantile(1 - probability, degreesOfFreedom);
+        double low = 0;
+        double high = 1;
+        while (cdf(high, degreesOfFreedom) < probability) {
+            low = high;
+            high *= 2;
+        }
+        for (int i = 0; i < MAX_ITERATIONS && high - low > EPSILON * high; i++) {
+            double middle = (low + high) / 2;
+            if (cdf(middle, degreesOfFreedom) < probability) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    static double regularizedBeta(double x, double a, double b) {
+        if (x <= 0) return 0;
+        if (x >= 1) return 1;
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b) + a * Math.log(x) + b * Math.log1p(-x));
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * betaFraction(x, a, b) / a;
+        }
+        return 1 - front * betaFraction(1 - x, b, a) / b;
+    }
+
+    private static double betaFraction(double x, double a, double b) {
+        double c = 1;
+        double d = 1 / nonZero(1 - (a + b) * x / (a + 1));
+        double result = d;
+        for (int m = 1; m <= MAX_ITERATIONS; m++) {
+            int m2 = 2 * m;
+            double coefficient = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 / nonZero(1 + coefficient * d);
+            c = nonZero(1 + coefficient / c);
+            result *= d * c;
+            coefficient = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 / nonZero(1 + coefficient * d);
+            c = nonZero(1 + coefficient / c);
+            double delta = d * c;
+            result *= delta;
+            if (Math.abs(delta - 1) < EPSILON) break;
+        }
+        return result;
+    }
+
+    private static double nonZero(double value) {
+        return Math.abs(value) < MIN_VALUE ? MIN_VALUE : value;
+    }
+
+    private static double logGamma(double x) {
+        double y = x;
+        double temp = x + 5.5;
+        temp -= (x + 0.5) * Math.log(temp);
+        double series = 1.000000000190015;
+        for (double coefficient : LANCZOS) {
+            series += coefficient / ++y;
+        }
+        return -temp + Math.log(2.5066282746310005 * series / x);
+    }
+}
@@ -0,0 +1,53 @@
+package system.util;
+
+public class WelfordAccumulator {
+    private long count;
+    private double mean;
+    private double m2;
+    private double sum;
+    private double compensation;
+
+    public WelfordAccumulator() {
+        this.count = 0;
+        this.mean = 0;
+        this.m2 = 0;
+        this.sum = 0;
+        this.compensation = 0;
+    }
+
+    public WelfordAccumulator(WelfordAccumulator accumulator) {
+        this.count = accumulator.count;
+        this.mean = accumulator.mean;
+        this.m2 = accumulator.m2;
+        this.sum = accumulator.sum;
+        this.compensation = accumulator.compensation;
+    }
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        double corrected = value - compensation;
+        double newSum = sum + corrected;
+        compensation = (newSum - sum) - corrected;
+        sum = newSum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getSquaredDeviation(double center) {
+        double shift = mean - center;
+        return m2 + count * shift * shift;
+    }
+}
@@ -0,0 +1,61 @@
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.junit.jupiter.api.Test;
+import system.analyzer.BatchMeansEstimator;
+import system.analyzer.ConfidenceInterval;
+import system.simulator.Simulator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to BatchMeansEstimator
+ **/
+class BatchMeansEstimatorTest {
+
+    private static final int REQUESTS_COUNT = 2_000_000;
+    private static final ConfigJSON CONFIG = new ConfigJSON(REQUESTS_COUNT, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 7L);
+
+    /**
+     * Checking invalid precision and confidence
+     **/
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchMeansEstimator(0, 0.95));
+        assertThrows(IllegalArgumentException.class, () -> new BatchMeansEstimator(Double.NaN, 0.95));
+        assertThrows(IllegalArgumentException.class, () -> new BatchMeansEstimator(0.05, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BatchMeansEstimator(0.05, 0));
+    }
+
+    /**
+     * Checking that estimator stops simulation long before request limit.
+     * Simulation should drain requests already generated and both intervals should reach chosen precision.
+     **/
+    @Test
+    void testStopsWhenPrecise() {
+        Simulator simulator = new Simulator(new SimulationConfig(CONFIG), false);
+        BatchMeansEstimator estimator = new BatchMeansEstimator(0.05, 0.95);
+        simulator.setListener(estimator);
+        simulator.runToCompletion();
+
+        assertTrue(estimator.isPrecise());
+        assertFalse(simulator.canContinue());
+        int requestCount = simulator.getProductionManager().getCurrentRequestCount();
+        assertTrue(requestCount < REQUESTS_COUNT / 10, "simulation should stop early, stopped at " + requestCount);
+        assertEquals(requestCount, simulator.getProgress());
+        assertTrue(estimator.getBatchCount() >= 32);
+
+        ConfidenceInterval rejectProbability = estimator.getRejectProbability();
+        ConfidenceInterval lifeTime = estimator.getLifeTime();
+        assertTrue(rejectProbability.isWithin(0.05));
+        assertTrue(lifeTime.isWithin(0.05));
+
+        // long run estimate should be covered by interval widened a bit to make test stable
+        Simulator reference = new Simulator(new SimulationConfig(CONFIG), false);
+        reference.runToCompletion();
+        double expected = (double) reference.getProductionManager().getFullRejectCount() / REQUESTS_COUNT;
+        double halfWidth = 2 * rejectProbability.halfWidth();
+        assertEquals(expected, rejectProbability.mean(), halfWidth);
+    }
+}
@@ -2,10 +2,13 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
 import system.component.Buffer;
+import system.component.BufferSnapshot;
 import system.component.Request;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -206,4 +209,97 @@ class BufferTest {
             assertEquals(expectedTakeIndex, actualTakeIndex);
         }
     }
+
+    /**
+     * Check buffer against reference model (list with linear package search) on random put/take sequence.
+     * Taken requests, take indexes, list order and package content should be the same after each operation.
+     * Buffer copies should keep list order and package of the original buffer.
+     **/
+    @Test
+    void testRandomOperationsAgainstReference() {
+        int capacity = 7;
+        Buffer buffer = new Buffer(capacity);
+        List<Request> referenceList = new ArrayList<>();
+        List<Request> referencePackage = new ArrayList<>();
+        Random random = new Random(7);
+        for (int operation = 0; operation < 20000; operation++) {
+            if (random.nextInt(3) != 0) {
+                // put request with random source number
+                Request request = new Request(operation, random.nextInt(4), operation);
+                boolean expectedPut = referenceList.size() < capacity;
+                if (expectedPut) {
+                    referenceList.add(request);
+                }
+                assertEquals(expectedPut, buffer.putRequest(request));
+            } else if (!referenceList.isEmpty()) {
+                // create package in reference model and take first package request
+                if (referencePackage.isEmpty()) {
+                    int priority = referenceList.stream().mapToInt(Request::getSourceNumber).min().orElseThrow();
+                    referenceList.stream().filter(r -> r.getSourceNumber() == priority).forEach(referencePackage::add);
+                }
+                Request expectedRequest = referencePackage.remove(0);
+                int expectedTakeIndex = referenceList.indexOf(expectedRequest);
+                referenceList.remove(expectedTakeIndex);
+                assertSame(expectedRequest, buffer.takeRequest());
+                assertEquals(expectedTakeIndex, buffer.getTakeIndex());
+            } else {
+                assertNull(buffer.takeRequest());
+            }
+            CompareUtil.compareLists(referenceList, buffer.getList(), Assertions::assertSame);
+            CompareUtil.compareLists(referencePackage, buffer.getRequestsPackage(), Assertions::assertSame);
+            if (operation % 1000 == 0) {
+                CompareUtil.compareBuffers(buffer, new Buffer(buffer));
+            }
+        }
+    }
+
+    /**
+     * Check copy-on-write buffer snapshots.
+     * Snapshot is not copied until buffer is changed, reading snapshot reads live buffer.
+     * After buffer change snapshot keeps state of buffer at the moment of snapshot creation.
+     * Released snapshot is not copied on buffer change and can not be read.
+     * Retained snapshot is copied on buffer change even after release.
+     **/
+    @Test
+    void testSnapshot() {
+        Buffer buffer = new Buffer(3);
+        buffer.putRequest(new Request(0, 1, 1.0));
+        buffer.putRequest(new Request(0, 0, 2.0));
+        Buffer expected = new Buffer(buffer);
+
+        // snapshot is not copied on read and is copied on buffer change
+        BufferSnapshot snapshot = buffer.snapshot();
+        assertFalse(snapshot.isMaterialized(), "snapshot should not be copied on creation");
+        compareSnapshot(expected, snapshot);
+        assertFalse(snapshot.isMaterialized(), "snapshot should not be copied on read");
+        assertSame(snapshot, buffer.snapshot(), "snapshot of same version should be shared");
+        long version = buffer.getVersion();
+        buffer.takeRequest();
+        assertNotEquals(version, buffer.getVersion(), "buffer version should change after take");
+        assertTrue(snapshot.isMaterialized(), "snapshot should be copied before buffer change");
+        compareSnapshot(expected, snapshot);
+
+        // released snapshot is not copied
+        BufferSnapshot releasedSnapshot = buffer.snapshot();
+        releasedSnapshot.release();
+        buffer.putRequest(new Request(1, 0, 3.0));
+        assertFalse(releasedSnapshot.isMaterialized(), "released snapshot should not be copied");
+        assertThrows(IllegalStateException.class, releasedSnapshot::getList);
+
+        // retained snapshot is kept after release
+        Buffer expectedRetained = new Buffer(buffer);
+        BufferSnapshot retainedSnapshot = buffer.snapshot().retain();
+        retainedSnapshot.release();
+        buffer.takeRequest();
+        assertTrue(retainedSnapshot.isMaterialized(), "retained snapshot should be copied before buffer change");
+        compareSnapshot(expectedRetained, retainedSnapshot);
+    }
+
+    private void compareSnapshot(Buffer expected, BufferSnapshot snapshot) {
+        assertEquals(expected.getCapacity(), snapshot.getCapacity());
+        assertEquals(expected.getSize(), snapshot.getSize());
+        assertEquals(expected.getTakeIndex(), snapshot.getTakeIndex());
+        CompareUtil.compareLists(expected.getList(), snapshot.getList(), CompareUtil::compareRequests);
+        CompareUtil.compareLists(expected.getRequestsPackage(), snapshot.getRequestsPackage(), CompareUtil::compareRequests);
+    }
 }
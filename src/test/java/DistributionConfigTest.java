@@ -0,0 +1,186 @@
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.junit.jupiter.api.Test;
+import system.component.Processor;
+import system.component.Request;
+import system.distribution.DistributionConfig;
+import system.distribution.DistributionType;
+import system.distribution.ErlangSampler;
+import system.distribution.ExponentialSampler;
+import system.distribution.Sampler;
+import system.random.AliasTable;
+import system.random.RandomStream;
+import system.random.SplitMix64;
+import system.simulator.Simulator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to DistributionConfig and samplers created by it
+ **/
+class DistributionConfigTest {
+
+    /**
+     * Calculate sample mean and variance of sampler
+     **/
+    private double[] sampleMoments(Sampler sampler, int count) {
+        RandomStream random = new SplitMix64(17);
+        double sum = 0;
+        double squaredSum = 0;
+        for (int i = 0; i < count; i++) {
+            double value = sampler.sample(random);
+            assertTrue(value >= 0, "sampled value should not be negative");
+            sum += value;
+            squaredSum += value * value;
+        }
+        double mean = sum / count;
+        return new double[]{mean, squaredSum / count - mean * mean};
+    }
+
+    /**
+     * Checking sample mean and variance of every distribution type with target mean 2.
+     * Expected variances: exponential m^2, Erlang(k) m^2/k, lognormal m^2(exp(s^2)-1), deterministic 0,
+     * hyperexponential sum(2 p_i m_i^2) - m^2.
+     **/
+    @Test
+    void testMoments() {
+        double mean = 2.0;
+        int count = 1000000;
+
+        double[] exponential = sampleMoments(DistributionConfig.of(DistributionType.EXPONENTIAL).createSampler(mean), count);
+        assertEquals(mean, exponential[0], 0.01);
+        assertEquals(mean * mean, exponential[1], 0.1);
+
+        double[] erlang = sampleMoments(DistributionConfig.of(DistributionType.ERLANG, 4.0).createSampler(mean), count);
+        assertEquals(mean, erlang[0], 0.01);
+        assertEquals(mean * mean / 4, erlang[1], 0.02);
+
+        double[] lognormal = sampleMoments(DistributionConfig.of(DistributionType.LOGNORMAL, 0.5).createSampler(mean), count);
+        assertEquals(mean, lognormal[0], 0.01);
+        assertEquals(mean * mean * (Math.exp(0.25) - 1), lognormal[1], 0.02);
+
+        double[] deterministic = sampleMoments(DistributionConfig.of(DistributionType.DETERMINISTIC).createSampler(mean), count);
+        assertEquals(mean, deterministic[0], 1e-9);
+        assertEquals(0, deterministic[1], 1e-9);
+
+        // phases with probabilities 0.9 and 0.1, second phase is 10 times longer (means 2/1.9 and 20/1.9)
+        DistributionConfig hyperexponentialConfig = new DistributionConfig(DistributionType.HYPEREXPONENTIAL,
+                List.of(1.0, 10.0), null, List.of(0.9, 0.1));
+        double[] hyperexponential = sampleMoments(hyperexponentialConfig.createSampler(mean), count);
+        double firstMean = mean / 1.9;
+        double secondMean = 10 * mean / 1.9;
+        double expectedVariance = 2 * (0.9 * firstMean * firstMean + 0.1 * secondMean * secondMean) - mean * mean;
+        assertEquals(mean, hyperexponential[0], 0.03);
+        assertEquals(expectedVariance, hyperexponential[1], expectedVariance * 0.03);
+
+        double[] empirical = sampleMoments(DistributionConfig.empirical(List.of(1.0, 2.0, 4.0), List.of(1.0, 2.0, 1.0))
+                .createSampler(mean), count);
+        assertEquals(2.25, empirical[0], 0.01);
+    }
+
+    /**
+     * Checking alias table frequencies against weights
+     **/
+    @Test
+    void testAliasTable() {
+        List<Double> weights = List.of(0.5, 0.0, 3.0, 1.5, 5.0);
+        AliasTable table = new AliasTable(weights);
+        RandomStream random = new SplitMix64(3);
+        int count = 1000000;
+        int[] frequencies = new int[weights.size()];
+        for (int i = 0; i < count; i++) {
+            frequencies[table.next(random)]++;
+        }
+        for (int i = 0; i < weights.size(); i++) {
+            double expected = count * weights.get(i) / 10.0;
+            assertEquals(expected, frequencies[i], 5 * Math.sqrt(expected) + 1, "frequency of " + i + " differs");
+        }
+    }
+
+    /**
+     * Checking exponential sampling modes.
+     * Default sampler should fill blocks with same ziggurat values as single samples, inversion should be enabled
+     * only by inversion config or antithetic sampling.
+     **/
+    @Test
+    void testExponentialModes() {
+        Sampler ziggurat = DistributionConfig.of(DistributionType.EXPONENTIAL).createSampler(2.0);
+        RandomStream random = new SplitMix64(9);
+        RandomStream reference = random.copy();
+        double[] block = new double[100];
+        ziggurat.fill(random, block);
+        for (double value : block) {
+            assertEquals(ziggurat.sample(reference), value);
+        }
+        assertFalse(((ExponentialSampler) ziggurat).isInversion());
+        assertTrue(((ExponentialSampler) DistributionConfig.of(DistributionType.EXPONENTIAL).createSampler(2.0, true))
+                .isInversion());
+
+        DistributionConfig inversion = DistributionConfig.inversion(DistributionType.EXPONENTIAL);
+        assertTrue(inversion.isInversion());
+        assertTrue(((ExponentialSampler) inversion.createSampler(2.0)).isInversion());
+        assertTrue(((ErlangSampler) DistributionConfig.inversion(DistributionType.ERLANG, 3.0).createSampler(2.0))
+                .isInversion());
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.inversion(DistributionType.LOGNORMAL, 0.5));
+    }
+
+    /**
+     * Checking that Erlang inversion uses same exponential kernel as exponential inversion,
+     * Erlang with shape 1 should give exactly same values
+     **/
+    @Test
+    void testErlangInversionKernel() {
+        Sampler erlang = new ErlangSampler(1, 2.0, true);
+        Sampler exponential = new ExponentialSampler(2.0, true);
+        RandomStream random = new SplitMix64(4);
+        RandomStream reference = random.copy();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(exponential.sample(reference), erlang.sample(random));
+        }
+    }
+
+    /**
+     * Checking invalid distribution parameters, they should throw IllegalArgumentException
+     **/
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.of(DistributionType.ERLANG).createSampler(1));
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.of(DistributionType.ERLANG, 0.0).createSampler(1));
+        // fractional shape should not be truncated
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> DistributionConfig.of(DistributionType.ERLANG, 2.7).createSampler(1));
+        assertTrue(exception.getMessage().startsWith("Erlang shape"));
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.of(DistributionType.ERLANG, 0.5).createSampler(1));
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.of(DistributionType.ERLANG, Double.NaN).createSampler(1));
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.of(DistributionType.LOGNORMAL, -1.0).createSampler(1));
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.of(DistributionType.EXPONENTIAL).createSampler(0));
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.empirical(List.of(), null).createSampler(1));
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.empirical(List.of(1.0), List.of(1.0, 2.0)).createSampler(1));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(List.of(0.0, 0.0)));
+        assertThrows(IllegalArgumentException.class, () -> new DistributionConfig(null, null, null, null).createSampler(1));
+    }
+
+    /**
+     * Checking simulation with configured distributions.
+     * Processor service time should be drawn from processor distribution, source distributions can be partially set.
+     **/
+    @Test
+    void testSimulationWithDistributions() {
+        ConfigJSON config = new ConfigJSON(2000, 3, List.of(1.0, 1.5), List.of(1.0, 1.0), 1L,
+                List.of(DistributionConfig.of(DistributionType.ERLANG, 2.0)),
+                List.of(DistributionConfig.empirical(List.of(0.5, 1.5), null), DistributionConfig.of(DistributionType.LOGNORMAL, 0.3)));
+        Simulator simulator = new Simulator(new SimulationConfig(config));
+        simulator.fullSimulation();
+        assertEquals(2000, simulator.getProgress());
+
+        for (Request request : simulator.getSelectionManager().getSuccessRequests().get(0)) {
+            assertTrue(request.getTimeInProcessor() > 0);
+        }
+        Processor processor = simulator.getSelectionManager().getProcessors().get(0);
+        assertEquals(1.0, processor.getSampler().getMean(), 1e-9);
+        assertEquals(1.0, simulator.getProductionManager().getSources().get(0).getSampler().getMean(), 1e-9);
+        assertEquals(1 / 1.5, simulator.getProductionManager().getSources().get(1).getSampler().getMean(), 1e-9);
+    }
+}
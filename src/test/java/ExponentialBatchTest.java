@@ -0,0 +1,71 @@
+import org.junit.jupiter.api.Test;
+import system.component.Source;
+import system.distribution.ExponentialSampler;
+import system.random.ExponentialBatch;
+import system.random.RandomStream;
+import system.random.SplitMix64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests related to ExponentialBatch
+ **/
+class ExponentialBatchTest {
+
+    /**
+     * Checking scalar fill, it should generate same values as next called one by one.
+     * Values should be equal to inversion with Math.log1p up to few ulps.
+     **/
+    @Test
+    void testScalarFill() {
+        double scale = 0.75;
+        double[] block = new double[100000];
+        ExponentialBatch.fillScalar(new SplitMix64(3), scale, block);
+        RandomStream random = new SplitMix64(3);
+        RandomStream reference = new SplitMix64(3);
+        for (double value : block) {
+            assertEquals(ExponentialBatch.next(random, scale), value);
+            double expected = -scale * Math.log1p(-reference.nextDouble());
+            assertEquals(expected, value, 4 * Math.ulp(expected));
+        }
+    }
+
+    /**
+     * Checking vectorized fill (test task is run with jdk.incubator.vector module).
+     * Vector transform should give exactly same values as scalar fill, including block tail that
+     * does not fill a whole vector. Mean of values should be equal to scale.
+     **/
+    @Test
+    void testVectorFill() {
+        assumeTrue(ExponentialBatch.isVectorized(), "jdk.incubator.vector module is not enabled");
+        double scale = 2.0;
+        double[] block = new double[1003];
+        double[] expected = new double[block.length];
+        RandomStream random = new SplitMix64(8);
+        RandomStream reference = random.copy();
+        double sum = 0;
+        for (int iteration = 0; iteration < 200; iteration++) {
+            ExponentialBatch.fill(random, scale, block);
+            ExponentialBatch.fillScalar(reference, scale, expected);
+            assertArrayEquals(expected, block);
+            for (double value : block) {
+                sum += value;
+            }
+        }
+        assertEquals(scale, sum / (200.0 * block.length), 0.01);
+    }
+
+    /**
+     * Checking that seeded source with inversion sampler gives same arrival times with and without
+     * jdk.incubator.vector module. Same test runs in test and testScalar tasks, so expected time is fixed.
+     **/
+    @Test
+    void testSourceIndependentOfModule() {
+        Source source = new Source(0, 1.5, new SplitMix64(17), new ExponentialSampler(1 / 1.5, true));
+        for (int i = 0; i < 10000; i++) {
+            source.getRequestAndGenerate();
+        }
+        assertEquals(6542.454472246493, source.getTime());
+    }
+}
@@ -0,0 +1,81 @@
+import org.junit.jupiter.api.Test;
+import system.util.IndexedMinHeap;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to IndexedMinHeap
+ **/
+class IndexedMinHeapTest {
+
+    /**
+     * Find expected minimum by linear scan (same way as managers did it before heap)
+     **/
+    private int scanMinimum(double[] keys, boolean[] present, boolean lowerIndexFirst) {
+        int result = -1;
+        for (int i = 0; i < keys.length; i++) {
+            if (!present[i]) continue;
+            if (result == -1 || keys[i] < keys[result] || (keys[i] == keys[result] && !lowerIndexFirst)) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checking empty heap and invalid operations.
+     * Empty heap returns -1 on peek, adding existing index and updating missing index throws IllegalArgumentException.
+     **/
+    @Test
+    void testEmptyHeap() {
+        IndexedMinHeap heap = new IndexedMinHeap(3, true);
+        assertTrue(heap.isEmpty());
+        assertEquals(-1, heap.peek());
+        assertThrows(IllegalArgumentException.class, () -> heap.update(1, 1.0));
+
+        heap.add(1, 2.0);
+        assertFalse(heap.isEmpty());
+        assertTrue(heap.contains(1));
+        assertEquals(1, heap.peek());
+        assertThrows(IllegalArgumentException.class, () -> heap.add(1, 3.0));
+
+        heap.remove(1);
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(1));
+        assertDoesNotThrow(() -> heap.remove(1));
+    }
+
+    /**
+     * Checking heap order after random add/update/remove operations against linear scan.
+     * Keys are small integers to check tie-breaking by index in both modes.
+     **/
+    @Test
+    void testOrderAgainstScan() {
+        for (boolean lowerIndexFirst : new boolean[]{true, false}) {
+            int capacity = 50;
+            Random random = new Random(42);
+            IndexedMinHeap heap = new IndexedMinHeap(capacity, lowerIndexFirst);
+            double[] keys = new double[capacity];
+            boolean[] present = new boolean[capacity];
+            for (int operation = 0; operation < 20000; operation++) {
+                int index = random.nextInt(capacity);
+                double key = random.nextInt(10);
+                if (!present[index]) {
+                    heap.add(index, key);
+                    present[index] = true;
+                    keys[index] = key;
+                } else if (random.nextInt(4) == 0) {
+                    heap.remove(index);
+                    present[index] = false;
+                } else {
+                    heap.update(index, key);
+                    keys[index] = key;
+                }
+                int expected = scanMinimum(keys, present, lowerIndexFirst);
+                assertEquals(expected, heap.peek(), "heap minimum differs from scan at operation " + operation);
+            }
+        }
+    }
+}
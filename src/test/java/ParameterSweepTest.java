@@ -0,0 +1,124 @@
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.junit.jupiter.api.Test;
+import system.analyzer.ParameterSweep;
+import system.analyzer.ParameterSweep.Parameter;
+import system.analyzer.SweepResult;
+import system.analyzer.VarianceReduction;
+import system.simulator.Simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to ParameterSweep
+ **/
+class ParameterSweepTest {
+
+    private static final ConfigJSON CONFIG = new ConfigJSON(2000, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 5L);
+
+    /**
+     * Checking invalid ranges, lambdas and component indexes
+     **/
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParameterSweep(CONFIG, Parameter.SOURCE_COUNT, 1, 5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ParameterSweep(CONFIG, Parameter.SOURCE_COUNT, 5, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParameterSweep(CONFIG, Parameter.BUFFER_CAPACITY, 0, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParameterSweep(CONFIG, Parameter.SOURCE_LAMBDA, 0, 1, 0.5));
+        // fractional step or start of count parameter would give duplicate points
+        assertThrows(IllegalArgumentException.class, () -> new ParameterSweep(CONFIG, Parameter.BUFFER_CAPACITY, 1, 5, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new ParameterSweep(CONFIG, Parameter.SOURCE_COUNT, 1.5, 5, 1));
+        assertEquals(3, new ParameterSweep(CONFIG, Parameter.REQUESTS_COUNT, 100, 350, 100).getPointCount());
+        ParameterSweep sweep = new ParameterSweep(CONFIG, Parameter.PROCESSOR_LAMBDA, 0.5, 1.5, 0.5);
+        assertThrows(IllegalArgumentException.class, () -> sweep.setComponentIndex(2));
+        assertThrows(IllegalArgumentException.class, () -> sweep.setComponentLambda(0));
+        assertThrows(IllegalArgumentException.class, () -> sweep.getPointConfig(3));
+    }
+
+    /**
+     * Checking configs of sweep points for every kind of varied parameter
+     **/
+    @Test
+    void testPointConfigs() {
+        ParameterSweep sourceSweep = new ParameterSweep(CONFIG, Parameter.SOURCE_COUNT, 2, 6, 2);
+        sourceSweep.setComponentLambda(0.5);
+        assertEquals(3, sourceSweep.getPointCount());
+        assertEquals(List.of(0.5, 0.5, 0.5, 0.5), sourceSweep.getPointConfig(1).getConfig().getSources());
+
+        ParameterSweep lambdaSweep = new ParameterSweep(CONFIG, Parameter.PROCESSOR_LAMBDA, 0.5, 1.5, 0.1);
+        lambdaSweep.setComponentIndex(1);
+        assertEquals(11, lambdaSweep.getPointCount());
+        assertEquals(List.of(1.0, 1.5), lambdaSweep.getPointConfig(10).getConfig().getProcessors());
+
+        ParameterSweep requestSweep = new ParameterSweep(CONFIG, Parameter.REQUESTS_COUNT, 100, 300, 100);
+        SimulationConfig requestConfig = requestSweep.getPointConfig(2);
+        assertEquals(300, requestConfig.getConfig().getRequestsCount());
+        assertEquals(CONFIG.getSources(), requestConfig.getConfig().getSources());
+        assertEquals(CONFIG.getSeed(), requestConfig.getConfig().getSeed());
+    }
+
+    /**
+     * Checking that results come in order of points and equal to sequential simulation of the same point
+     **/
+    @Test
+    void testResultsInOrder() {
+        ParameterSweep sweep = new ParameterSweep(CONFIG, Parameter.BUFFER_CAPACITY, 1, 8, 1, new ForkJoinPool(4));
+        List<SweepResult> results = new ArrayList<>();
+        sweep.run(results::add);
+
+        assertEquals(sweep.getPointCount(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            SweepResult result = results.get(i);
+            assertEquals(i, result.index());
+            assertEquals(i + 1, result.value());
+            Simulator simulator = new Simulator(sweep.getPointConfig(i), false);
+            simulator.runToCompletion();
+            double rejectProbability = (double) simulator.getProductionManager().getFullRejectCount() / 2000;
+            assertEquals(rejectProbability, result.rejectProbability());
+        }
+        // more buffer places should not give more rejects on the same random numbers
+        assertTrue(results.get(0).rejectProbability() > results.get(results.size() - 1).rejectProbability());
+    }
+
+    /**
+     * Checking that cancel from callback stops delivery of remaining points
+     **/
+    @Test
+    void testCancel() {
+        ParameterSweep sweep = new ParameterSweep(CONFIG, Parameter.SOURCE_COUNT, 1, 20, 1);
+        List<SweepResult> results = new ArrayList<>();
+        sweep.run(result -> {
+            results.add(result);
+            if (results.size() == 3) {
+                sweep.cancel();
+            }
+        });
+        assertEquals(3, results.size());
+        assertTrue(sweep.isCancelled());
+    }
+
+    /**
+     * Checking variance reduction pass of sweep.
+     * Replications should run in sweep pool and cancel of sweep should stop them long before all runs are done.
+     **/
+    @Test
+    void testCancelVarianceReduction() throws InterruptedException {
+        ConfigJSON config = new ConfigJSON(5_000_000, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 5L);
+        ParameterSweep sweep = new ParameterSweep(config, Parameter.BUFFER_CAPACITY, 3, 4, 1, new ForkJoinPool(2));
+        sweep.setCommonRandomNumbers(true);
+        sweep.setAntithetic(true);
+        VarianceReduction[] reduction = new VarianceReduction[1];
+        Thread thread = new Thread(() -> reduction[0] = sweep.analyzeVarianceReduction(8));
+        thread.start();
+        Thread.sleep(200);
+        sweep.cancel();
+        thread.join(10_000);
+        assertFalse(thread.isAlive(), "variance reduction should stop on cancel");
+        assertFalse(reduction[0].hasCommonRandomNumbers());
+        assertFalse(reduction[0].hasAntithetic());
+    }
+}
@@ -0,0 +1,100 @@
+import org.junit.jupiter.api.Test;
+import system.component.Buffer;
+import system.component.Request;
+import system.component.Source;
+import system.distribution.DistributionConfig;
+import system.distribution.DistributionType;
+import system.manager.ProductionManager;
+import system.random.SplitMix64;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to ProductionManager
+ **/
+class ProductionManagerTest {
+
+    /**
+     * Create seeded exponential sources with given lambdas
+     **/
+    private List<Source> createSources(List<Double> lambdas) {
+        List<Source> sources = new ArrayList<>();
+        for (int i = 0; i < lambdas.size(); i++) {
+            sources.add(new Source(i, lambdas.get(i), new SplitMix64(i)));
+        }
+        return sources;
+    }
+
+    /**
+     * Checking merged Poisson arrivals.
+     * Manager with exponential sources and arrivals stream should use merged arrivals. Requests should come in time
+     * order, every source should number its requests sequentially, shares of sources should be proportional to lambdas
+     * and mean interval should be 1 / sum of lambdas.
+     **/
+    @Test
+    void testMergedArrivals() {
+        List<Double> lambdas = List.of(0.5, 1.0, 2.5);
+        int requestsCount = 400000;
+        List<Source> sources = createSources(lambdas);
+        ProductionManager manager = new ProductionManager(sources, new Buffer(1), requestsCount, false, new SplitMix64(99));
+        assertTrue(manager.isMergedArrivals());
+
+        int[] counts = new int[lambdas.size()];
+        double lastTime = 0;
+        while (manager.canGenerate()) {
+            manager.selectNearestEvent();
+            double time = manager.getTime();
+            int sourceNumber = manager.getCurrentSource().getNumber();
+            manager.generate();
+            Request request = manager.getLastRequest();
+            assertEquals(time, request.getTime());
+            assertEquals(sourceNumber, request.getSourceNumber());
+            assertEquals(counts[sourceNumber]++, request.getNumber(), "source should number requests sequentially");
+            assertTrue(time >= lastTime, "requests should be generated in time order");
+            lastTime = time;
+        }
+
+        for (int i = 0; i < lambdas.size(); i++) {
+            assertEquals(counts[i], sources.get(i).getRequestCount());
+            assertEquals(lambdas.get(i) / 4.0, (double) counts[i] / requestsCount, 0.005);
+        }
+        assertEquals(1 / 4.0, lastTime / requestsCount, 0.005);
+    }
+
+    /**
+     * Checking that merged arrivals are used only for exponential sources with arrivals stream
+     **/
+    @Test
+    void testMergedArrivalsApplicability() {
+        List<Source> sources = createSources(List.of(1.0, 2.0));
+        assertFalse(new ProductionManager(sources, new Buffer(1), 10).isMergedArrivals());
+
+        sources.add(new Source(2, 1.0, new SplitMix64(5), DistributionConfig.of(DistributionType.ERLANG, 2.0).createSampler(1.0)));
+        assertFalse(new ProductionManager(sources, new Buffer(1), 10, true, new SplitMix64(1)).isMergedArrivals());
+    }
+
+    /**
+     * Checking pipelined arrivals after last request.
+     * Reading next arrival after limit should throw IllegalStateException instead of waiting for producer forever.
+     **/
+    @Test
+    void testPipelineExhausted() {
+        int requestsCount = 1000;
+        ProductionManager manager = new ProductionManager(createSources(List.of(1.0, 2.0)), new Buffer(1), requestsCount);
+        manager.enablePipeline(64);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < requestsCount; i++) {
+                manager.getTime();
+                manager.generate();
+            }
+            assertFalse(manager.canGenerate());
+            assertThrows(IllegalStateException.class, manager::getTime);
+            assertThrows(IllegalStateException.class, manager::generate);
+        });
+        manager.stopPipeline();
+    }
+}
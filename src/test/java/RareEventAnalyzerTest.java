@@ -0,0 +1,134 @@
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.junit.jupiter.api.Test;
+import system.analyzer.RareEventAnalyzer;
+import system.distribution.DistributionConfig;
+import system.distribution.DistributionType;
+import system.simulator.Simulator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to RareEventAnalyzer
+ **/
+class RareEventAnalyzerTest {
+
+    /**
+     * Create config with two sources and two processors with exponential service time
+     **/
+    private ConfigJSON createConfig(int requestsCount, int bufferCapacity, long seed) {
+        DistributionConfig exponential = DistributionConfig.of(DistributionType.EXPONENTIAL);
+        return new ConfigJSON(requestsCount, bufferCapacity, List.of(0.6, 0.6), List.of(1.0, 1.0), seed,
+                null, List.of(exponential, exponential));
+    }
+
+    /**
+     * Checking splitting estimate against plain simulation.
+     * Reject probability estimated with RESTART should be same as estimated by long plain simulation within
+     * their errors, reported relative error should be small.
+     **/
+    @Test
+    void testAgainstPlainSimulation() {
+        int bufferCapacity = 6;
+        int requestsCount = 1_000_000;
+        Simulator simulator = new Simulator(new SimulationConfig(createConfig(requestsCount, bufferCapacity, 1L)), false);
+        simulator.fullSimulation();
+        double expected = (double) simulator.getProductionManager().getFullRejectCount() / requestsCount;
+
+        RareEventAnalyzer analyzer = new RareEventAnalyzer(bufferCapacity, 10);
+        analyzer.analyze(new SimulationConfig(createConfig(20000, bufferCapacity, 2L)));
+        double probability = analyzer.getRejectProbability();
+        double error = Math.sqrt(Math.pow(analyzer.getRelativeError() * probability, 2) + expected / requestsCount);
+        assertEquals(expected, probability, 4 * error);
+        assertTrue(analyzer.getRelativeError() < 0.1, "relative error should be small");
+        assertEquals(bufferCapacity, analyzer.getRetrials().size());
+        assertTrue(analyzer.getEventCount() > 0);
+    }
+
+    /**
+     * Reject probability of M/M/c/K system (c processors, K = c + buffer capacity places) with arrival rate
+     * lambda and service rate mu, equal to stationary probability of full system
+     **/
+    private double getErlangLossProbability(double lambda, double mu, int processors, int bufferCapacity) {
+        double load = lambda / mu;
+        double term = 1;
+        double sum = 1;
+        for (int n = 1; n <= processors + bufferCapacity; n++) {
+            term *= load / Math.min(n, processors);
+            sum += term;
+        }
+        return term / sum;
+    }
+
+    /**
+     * Checking splitting effort on really rare reject.
+     * Config is M/M/2/22 system with reject probability about 7e-6, estimate should match exact value.
+     * Plain simulation needs at least (1 - p) / (p * e^2) requests for relative error e (binomial bound, real
+     * rejects come in bursts and need more), RESTART should use more than order of magnitude fewer events.
+     **/
+    @Test
+    void testEffortOnRareEvent() {
+        int bufferCapacity = 20;
+        double expected = getErlangLossProbability(1.2, 1.0, 2, bufferCapacity);
+        assertTrue(expected < 1e-4);
+
+        int plainRequests = 100_000;
+        Simulator simulator = new Simulator(new SimulationConfig(createConfig(plainRequests, bufferCapacity, 5L)), false);
+        long[] plainEvents = new long[1];
+        simulator.setListener(ignored -> {
+            plainEvents[0]++;
+            return true;
+        });
+        simulator.runToCompletion();
+        double eventsPerRequest = (double) plainEvents[0] / plainRequests;
+
+        RareEventAnalyzer analyzer = new RareEventAnalyzer(bufferCapacity, 10);
+        analyzer.analyze(new SimulationConfig(createConfig(20000, bufferCapacity, 6L)));
+        double probability = analyzer.getRejectProbability();
+        double relativeError = analyzer.getRelativeError();
+        assertEquals(expected, probability, 4 * relativeError * probability);
+        assertTrue(relativeError < 0.1, "relative error should be small");
+
+        double plainEffort = (1 - expected) / (expected * relativeError * relativeError) * eventsPerRequest;
+        assertTrue(analyzer.getEventCount() * 20 < plainEffort,
+                "splitting used " + analyzer.getEventCount() + " events, plain simulation needs " + plainEffort);
+    }
+
+    /**
+     * Checking pilot run limit.
+     * Pilot run should stop after limit of events, so total effort should exceed effort of runs with same
+     * fixed retrials at most by the limit.
+     **/
+    @Test
+    void testPilotEventLimit() {
+        SimulationConfig config = new SimulationConfig(createConfig(2000, 5, 4L));
+        RareEventAnalyzer adaptive = new RareEventAnalyzer(5, 4);
+        adaptive.setPilotEventLimit(1000);
+        adaptive.analyze(config);
+        List<Integer> retrials = adaptive.getRetrials();
+        assertTrue(retrials.stream().allMatch(retrial -> retrial >= 1));
+
+        RareEventAnalyzer fixed = new RareEventAnalyzer(List.of(1, 2, 3, 4, 5), retrials, 4);
+        fixed.analyze(config);
+        assertEquals(fixed.getRejectProbability(), adaptive.getRejectProbability());
+        assertTrue(adaptive.getEventCount() <= fixed.getEventCount() + 1000);
+        assertThrows(IllegalArgumentException.class, () -> adaptive.setPilotEventLimit(0));
+    }
+
+    /**
+     * Checking invalid parameters, thresholds should be increasing and not greater than buffer capacity
+     **/
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new RareEventAnalyzer(List.of(), List.of(), 2));
+        assertThrows(IllegalArgumentException.class, () -> new RareEventAnalyzer(List.of(1, 2), List.of(2), 2));
+        assertThrows(IllegalArgumentException.class, () -> new RareEventAnalyzer(List.of(2, 2), List.of(2, 2), 2));
+        assertThrows(IllegalArgumentException.class, () -> new RareEventAnalyzer(List.of(1, 2), List.of(2, 0), 2));
+        assertThrows(IllegalArgumentException.class, () -> new RareEventAnalyzer(3, 1));
+        RareEventAnalyzer analyzer = new RareEventAnalyzer(List.of(2, 4), List.of(3, 3), 2);
+        assertThrows(IllegalArgumentException.class,
+                () -> analyzer.analyze(new SimulationConfig(createConfig(100, 3, 1L))));
+    }
+}
@@ -0,0 +1,117 @@
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.junit.jupiter.api.Test;
+import system.analyzer.ConfidenceInterval;
+import system.analyzer.ReplicationRunner;
+import system.analyzer.ReplicationRunner.SourceColumn;
+import system.simulator.Simulator;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to ReplicationRunner
+ **/
+class ReplicationRunnerTest {
+    private static final ConfigJSON CONFIG = new ConfigJSON(5000, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 17L);
+
+    /**
+     * Checking that results do not depend on parallelism, every replication has own stream and results are merged
+     * in replication order
+     **/
+    @Test
+    void testSameResultsForAnyParallelism() {
+        ReplicationRunner sequential = new ReplicationRunner(new SimulationConfig(CONFIG), 6, 0.95, 0, new ForkJoinPool(1));
+        sequential.run();
+        ReplicationRunner parallel = new ReplicationRunner(new SimulationConfig(CONFIG), 6, 0.95, 0, new ForkJoinPool(4));
+        parallel.run();
+        assertEquals(6, sequential.getReplicationCount());
+        assertEquals(6, parallel.getReplicationCount());
+        assertEquals(sequential.getSourceResults(), parallel.getSourceResults());
+        assertEquals(sequential.getProcessorResults(), parallel.getProcessorResults());
+        assertEquals(CONFIG.getSources().size(), sequential.getSourceResults().size());
+        assertEquals(SourceColumn.values().length + 1, sequential.getSourceResults().get(0).size());
+    }
+
+    /**
+     * Checking confidence intervals.
+     * Interval of reject probability should contain estimate of long single run, intervals should be narrower
+     * with more replications.
+     **/
+    @Test
+    void testConfidenceInterval() {
+        Simulator simulator = new Simulator(new SimulationConfig(
+                new ConfigJSON(400000, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 3L)), false);
+        simulator.fullSimulation();
+        double expected = (double) simulator.getProductionManager().getFullRejectCount() / 400000;
+
+        ReplicationRunner few = new ReplicationRunner(new SimulationConfig(CONFIG), 4, 0.95, 0);
+        few.run();
+        ReplicationRunner many = new ReplicationRunner(new SimulationConfig(CONFIG), 24, 0.95, 0);
+        many.run();
+        double rejectProbability = 0;
+        for (int i = 0; i < CONFIG.getSources().size(); i++) {
+            ConfidenceInterval interval = many.getSourceInterval(i, SourceColumn.REJECT_PROBABILITY);
+            assertTrue(interval.halfWidth() < few.getSourceInterval(i, SourceColumn.REJECT_PROBABILITY).halfWidth());
+            rejectProbability += interval.mean() * many.getSourceInterval(i, SourceColumn.REQUEST_COUNT).mean() / 5000;
+        }
+        ConfidenceInterval usageRate = many.getProcessorInterval(0);
+        assertTrue(usageRate.lower() > 0 && usageRate.upper() <= 1);
+        assertEquals(expected, rejectProbability, 0.01);
+    }
+
+    /**
+     * Checking early stop, runner should stop before maximum count once reject probability and lifetime intervals
+     * are narrow enough
+     **/
+    @Test
+    void testEarlyStop() {
+        ReplicationRunner runner = new ReplicationRunner(new SimulationConfig(CONFIG), 200, 0.95, 0.05);
+        runner.run();
+        assertTrue(runner.getReplicationCount() < 200, "runner should stop early");
+        for (int i = 0; i < CONFIG.getSources().size(); i++) {
+            assertTrue(runner.getSourceInterval(i, SourceColumn.REJECT_PROBABILITY).isWithin(0.05));
+            assertTrue(runner.getSourceInterval(i, SourceColumn.LIFE_TIME).isWithin(0.05));
+        }
+        ReplicationRunner sequential = new ReplicationRunner(new SimulationConfig(CONFIG), 200, 0.95, 0.05, new ForkJoinPool(1));
+        sequential.run();
+        ReplicationRunner parallel = new ReplicationRunner(new SimulationConfig(CONFIG), 200, 0.95, 0.05, new ForkJoinPool(4));
+        parallel.run();
+        // stop rule is checked after every merged replication, so stop point does not depend on parallelism
+        assertEquals(sequential.getReplicationCount(), parallel.getReplicationCount());
+        assertEquals(sequential.getSourceResults(), parallel.getSourceResults());
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationRunner(new SimulationConfig(CONFIG), 1, 0.95, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationRunner(new SimulationConfig(CONFIG), 5, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationRunner(new SimulationConfig(CONFIG), 5, 0.9, -1));
+    }
+
+    /**
+     * Checking that replications still running after early stop are stopped too, pool should become idle
+     * right after run returns instead of finishing long replications in background
+     **/
+    @Test
+    void testStopRunningReplications() {
+        ConfigJSON config = new ConfigJSON(2_000_000, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 17L);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ReplicationRunner runner = new ReplicationRunner(new SimulationConfig(config), 50, 0.95, 0.5, pool);
+        runner.run();
+        assertTrue(runner.getReplicationCount() < 50);
+        assertTrue(pool.awaitQuiescence(500, TimeUnit.MILLISECONDS), "running replications should be stopped");
+        pool.shutdown();
+    }
+
+    /**
+     * Checking that interval without estimate of half-width or with non-finite mean is never precise enough
+     **/
+    @Test
+    void testNotFiniteInterval() {
+        assertTrue(new ConfidenceInterval(1, 0.01).isWithin(0.05));
+        assertFalse(new ConfidenceInterval(1, 0.1).isWithin(0.05));
+        assertFalse(new ConfidenceInterval(1, Double.NaN).isWithin(0.05));
+        assertFalse(new ConfidenceInterval(Double.NaN, 0.01).isWithin(0.05));
+        assertFalse(new ConfidenceInterval(Double.POSITIVE_INFINITY, 0.01).isWithin(0.05));
+    }
+}
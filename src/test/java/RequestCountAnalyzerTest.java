@@ -0,0 +1,32 @@
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.junit.jupiter.api.Test;
+import system.analyzer.RequestCountAnalyzer;
+import system.simulator.Simulator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to RequestCountAnalyzer
+ **/
+class RequestCountAnalyzerTest {
+
+    /**
+     * Checking that analyzer extends one simulator, last simulator should be completed and should contain every
+     * request of the chosen count
+     **/
+    @Test
+    void testExtendedSimulator() {
+        ConfigJSON config = new ConfigJSON(100, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 11L);
+        RequestCountAnalyzer analyzer = new RequestCountAnalyzer(100);
+        analyzer.analyze(new SimulationConfig(config));
+        Simulator simulator = analyzer.getLastSimulator();
+        assertFalse(simulator.canContinue());
+        int requestCount = simulator.getProductionManager().getMaxRequestCount();
+        assertTrue(requestCount > 100, "analyzer should extend simulation");
+        assertEquals(requestCount, simulator.getProgress());
+        assertEquals(requestCount, simulator.getProductionManager().getCurrentRequestCount());
+    }
+}
@@ -0,0 +1,382 @@
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.junit.jupiter.api.Test;
+import system.component.BufferSnapshot;
+import system.component.Processor;
+import system.component.Request;
+import system.distribution.DistributionConfig;
+import system.distribution.DistributionType;
+import system.manager.SelectionManager;
+import system.manager.SourceStatistics;
+import system.random.SplitMix64;
+import system.simulator.SimulationStepResult;
+import system.simulator.Simulator;
+import system.simulator.SimulatorEvent;
+import system.simulator.SimulatorEvent.EventType;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to Simulator
+ **/
+class SimulatorTest {
+
+    /**
+     * Create simulator with small default-like config
+     **/
+    private Simulator createSimulator(int requestsCount) {
+        ConfigJSON config = new ConfigJSON(requestsCount, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0));
+        return new Simulator(new SimulationConfig(config));
+    }
+
+    /**
+     * Checking step by step simulation.
+     * Every step except the last one should return continue flag, last two events are WORK_END and ANALYZE.
+     * Every request should be generated once and be either rejected or released.
+     * Steps after the end of simulation should not change state.
+     **/
+    @Test
+    void testStepSequence() {
+        int requestsCount = 500;
+        Simulator simulator = createSimulator(requestsCount);
+        assertTrue(simulator.canContinue(), "new simulator should be able to continue");
+
+        // collect types of events until simulation end
+        List<EventType> types = new ArrayList<>();
+        SimulationStepResult result;
+        do {
+            result = simulator.nextSimulationStep();
+            assertEquals(simulator.getLastEvent().getType(), result.type(), "step result type should be same as event");
+            types.add(result.type());
+        } while (result.canContinue());
+
+        // check end of simulation
+        assertFalse(simulator.canContinue());
+        assertEquals(EventType.ANALYZE, types.get(types.size() - 1));
+        assertEquals(EventType.WORK_END, types.get(types.size() - 2));
+        assertEquals(requestsCount, types.stream().filter(type -> type == EventType.GENERATE).count());
+        assertEquals(requestsCount, simulator.getProgress(), "every request should be rejected or released");
+        assertTrue(simulator.getEndTime() > 0, "end time should be set after release");
+
+        // steps after end
+        assertFalse(simulator.simulationStep());
+        assertFalse(simulator.nextSimulationStep().canContinue());
+        assertEquals(requestsCount, simulator.getProgress());
+    }
+
+    /**
+     * Checking full simulation.
+     * After full simulation simulator can not continue and every request should be rejected or released.
+     **/
+    @Test
+    void testFullSimulation() {
+        int requestsCount = 2000;
+        Simulator simulator = createSimulator(requestsCount);
+        simulator.fullSimulation();
+        assertFalse(simulator.canContinue());
+        assertEquals(EventType.ANALYZE, simulator.getLastEvent().getType());
+        assertEquals(requestsCount, simulator.getProgress(), "every request should be rejected or released");
+    }
+
+    /**
+     * Checking headless simulation continued after several interactive steps.
+     * Headless run should finish the interactive cycle, simulate remaining requests and end in the same state as
+     * step by step simulation (can not continue, last event is ANALYZE).
+     **/
+    @Test
+    void testHeadlessAfterSteps() {
+        int requestsCount = 1000;
+        Simulator simulator = createSimulator(requestsCount);
+        for (int i = 0; i < 7; i++) {
+            assertTrue(simulator.simulationStep());
+        }
+        simulator.runToCompletion();
+        assertFalse(simulator.canContinue());
+        assertFalse(simulator.headlessStep(), "headless step after end should not continue");
+        assertEquals(EventType.ANALYZE, simulator.getLastEvent().getType());
+        assertEquals(requestsCount, simulator.getProgress(), "every request should be rejected or released");
+        assertEquals(requestsCount, simulator.getProductionManager().getCurrentRequestCount());
+    }
+
+    /**
+     * Checking structured event fields and lazily rendered log.
+     * First step generates request, its log is rendered from typed fields of the event.
+     **/
+    @Test
+    void testEventLog() {
+        int requestsCount = 10;
+        Simulator simulator = createSimulator(requestsCount);
+        assertTrue(simulator.simulationStep());
+
+        SimulatorEvent event = simulator.getLastEvent();
+        Request request = event.getRequest();
+        assertEquals(EventType.GENERATE, event.getType());
+        assertEquals(request.getSourceNumber(), event.getSourceNumber());
+        assertEquals(request.getNumber(), event.getRequestNumber());
+        assertEquals(request.getTime(), event.getTime());
+        assertEquals(1, event.getRequestCount());
+        assertEquals(requestsCount, event.getMaxRequestCount());
+        String expectedLog = "Request #" + request.getSourceNumber() + "." + request.getNumber() + " was generated in " +
+                new DecimalFormat("#0.000").format(request.getTime()) + " [1/" + requestsCount + "]\n";
+        assertEquals(expectedLog, event.getLog());
+    }
+
+    /**
+     * Checking buffer snapshot of PACKAGE event kept after next steps.
+     * Snapshot should still show buffer at the moment of the event after live buffer changes.
+     **/
+    @Test
+    void testKeptBufferSnapshot() {
+        Simulator simulator = createSimulator(200);
+        while (simulator.simulationStep() && simulator.getLastEvent().getType() != EventType.PACKAGE) {
+            assertNotNull(simulator.getLastEvent().getType());
+        }
+        BufferSnapshot snapshot = simulator.getLastEvent().getBuffer();
+        assertNotNull(snapshot, "package event should hold buffer snapshot");
+        List<Request> requests = snapshot.getList().stream().map(Request::new).toList();
+        List<Request> requestsPackage = snapshot.getRequestsPackage().stream().map(Request::new).toList();
+        assertFalse(requestsPackage.isEmpty());
+
+        // run until live buffer changes
+        long version = snapshot.getVersion();
+        while (simulator.getBuffer().getVersion() == version && simulator.simulationStep()) {
+            assertNotNull(simulator.getLastEvent().getType());
+        }
+        assertTrue(snapshot.isMaterialized(), "kept snapshot should be copied on buffer change");
+        CompareUtil.compareLists(requests, snapshot.getList(), CompareUtil::compareRequests);
+        CompareUtil.compareLists(requestsPackage, snapshot.getRequestsPackage(), CompareUtil::compareRequests);
+        assertEquals(requests.size(), snapshot.getSize());
+    }
+
+    /**
+     * Checking processor fields of TAKE and RELEASE events.
+     * Event should hold number and times of processor at the moment of the event without copying processor.
+     **/
+    @Test
+    void testProcessorEvents() {
+        Simulator simulator = createSimulator(50);
+        int releases = 0;
+        while (simulator.simulationStep()) {
+            SimulatorEvent event = simulator.getLastEvent();
+            if (event.getType() == EventType.TAKE || event.getType() == EventType.RELEASE) {
+                Processor processor = simulator.getSelectionManager().getProcessors().get(event.getProcessorNumber());
+                assertEquals(processor.getProcessTime(), event.getProcessTime());
+                assertEquals(processor.getWorkTime(), event.getWorkTime());
+                if (event.getType() == EventType.RELEASE) {
+                    assertEquals(processor.getProcessTime(), event.getTime());
+                    releases++;
+                }
+            }
+        }
+        assertTrue(releases > 0);
+    }
+
+    /**
+     * Checking streaming statistics.
+     * Statistics of successful requests should match stored requests, statistics-only simulator should not store
+     * requests but still count every rejected and released request.
+     **/
+    @Test
+    void testStatisticsOnly() {
+        int requestsCount = 2000;
+        Simulator simulator = createSimulator(requestsCount);
+        simulator.fullSimulation();
+        SelectionManager selectionManager = simulator.getSelectionManager();
+        for (int i = 0; i < selectionManager.getSuccessRequests().size(); i++) {
+            List<Request> requests = selectionManager.getSuccessRequests().get(i);
+            SourceStatistics statistics = selectionManager.getSuccessStatistics().get(i);
+            assertEquals(requests.size(), statistics.getCount());
+            assertEquals(requests.stream().mapToDouble(Request::getLifeTime).sum(), statistics.getLifeTime().getSum(), 1e-6);
+            assertEquals(simulator.getProductionManager().getRejectedRequests().get(i).size(),
+                    simulator.getProductionManager().getRejectCount(i));
+        }
+
+        ConfigJSON config = new ConfigJSON(requestsCount, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0));
+        Simulator statisticsOnly = new Simulator(new SimulationConfig(config), false);
+        statisticsOnly.fullSimulation();
+        assertEquals(requestsCount, statisticsOnly.getProgress(), "every request should be counted");
+        assertTrue(statisticsOnly.getSelectionManager().getSuccessRequests().stream().allMatch(List::isEmpty));
+        assertTrue(statisticsOnly.getProductionManager().getRejectedRequests().stream().allMatch(List::isEmpty));
+    }
+
+    /**
+     * Run simulation step by step and collect logs of all events
+     **/
+    private List<String> collectLogs(Simulator simulator) {
+        List<String> logs = new ArrayList<>();
+        while (simulator.simulationStep()) {
+            logs.add(simulator.getLastEvent().getLog());
+        }
+        return logs;
+    }
+
+    /**
+     * Checking seeded simulation.
+     * Simulators with same seed and replication should produce same events, other replication should differ.
+     * Headless run should end in the same state as step by step run with same seed.
+     **/
+    @Test
+    void testSeededSimulation() {
+        int requestsCount = 1000;
+        ConfigJSON config = new ConfigJSON(requestsCount, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 12345L);
+        SimulationConfig simulationConfig = new SimulationConfig(config);
+
+        Simulator first = new Simulator(simulationConfig);
+        Simulator second = new Simulator(simulationConfig);
+        assertEquals(collectLogs(first), collectLogs(second), "same seed should produce same events");
+
+        Simulator replication = new Simulator(simulationConfig.forReplication(1));
+        assertNotEquals(collectLogs(new Simulator(simulationConfig)), collectLogs(replication),
+                "other replication should produce other events");
+
+        Simulator headless = new Simulator(simulationConfig, false);
+        headless.fullSimulation();
+        assertEquals(first.getEndTime(), headless.getEndTime());
+        assertEquals(first.getProductionManager().getFullRejectCount(), headless.getProductionManager().getFullRejectCount());
+        assertThrows(IllegalArgumentException.class, () -> simulationConfig.forReplication(-1));
+    }
+
+    /**
+     * Checking pipelined arrivals.
+     * Simulator with arrivals generated on producer thread should produce same events as single-threaded simulator
+     * with same seed, both for merged arrivals (exponential sources) and per-source arrivals (Erlang source).
+     **/
+    @Test
+    void testPipelinedArrivals() {
+        List<ConfigJSON> configs = List.of(
+                new ConfigJSON(20000, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 7L),
+                new ConfigJSON(20000, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 7L,
+                        List.of(DistributionConfig.of(DistributionType.ERLANG, 3.0)), null)
+        );
+        for (ConfigJSON config : configs) {
+            SimulationConfig simulationConfig = new SimulationConfig(config);
+            Simulator pipelined = new Simulator(simulationConfig);
+            pipelined.enableArrivalPipeline();
+            assertTrue(pipelined.getProductionManager().isPipelined());
+            assertEquals(collectLogs(new Simulator(simulationConfig)), collectLogs(pipelined),
+                    "pipelined simulation should produce same events");
+
+            Simulator headless = new Simulator(simulationConfig, false);
+            headless.enableArrivalPipeline();
+            headless.fullSimulation();
+            assertEquals(pipelined.getEndTime(), headless.getEndTime());
+            assertEquals(20000, headless.getProgress());
+        }
+    }
+
+    /**
+     * Checking saturation fast path on overloaded system.
+     * Headless simulation rejects arrivals in bulk while buffer is full, its per-source statistics should be same as
+     * in step by step simulation (which processes every rejection separately) with same seed.
+     **/
+    @Test
+    void testSaturatedSimulation() {
+        int requestsCount = 20000;
+        List<ConfigJSON> configs = List.of(
+                new ConfigJSON(requestsCount, 2, List.of(3.0, 2.0, 4.0), List.of(1.0), 3L),
+                new ConfigJSON(requestsCount, 2, List.of(3.0, 2.0, 4.0), List.of(1.0), 3L,
+                        List.of(DistributionConfig.of(DistributionType.ERLANG, 2.0)), null)
+        );
+        for (ConfigJSON config : configs) {
+            SimulationConfig simulationConfig = new SimulationConfig(config);
+            Simulator stepped = new Simulator(simulationConfig);
+            collectLogs(stepped);
+            Simulator headless = new Simulator(simulationConfig);
+            headless.fullSimulation();
+            Simulator statisticsOnly = new Simulator(simulationConfig, false);
+            statisticsOnly.fullSimulation();
+
+            assertTrue(stepped.getProductionManager().getFullRejectCount() > requestsCount / 2, "system should be overloaded");
+            for (Simulator simulator : List.of(headless, statisticsOnly)) {
+                assertEquals(stepped.getEndTime(), simulator.getEndTime());
+                assertEquals(requestsCount, simulator.getProgress());
+                for (int i = 0; i < config.getSources().size(); i++) {
+                    assertEquals(stepped.getProductionManager().getRejectCount(i), simulator.getProductionManager().getRejectCount(i));
+                    assertEquals(stepped.getProductionManager().getSources().get(i).getRequestCount(),
+                            simulator.getProductionManager().getSources().get(i).getRequestCount());
+                    assertEquals(stepped.getSelectionManager().getSuccessStatistics().get(i).getLifeTime().getSum(),
+                            simulator.getSelectionManager().getSuccessStatistics().get(i).getLifeTime().getSum());
+                }
+            }
+            for (int i = 0; i < config.getSources().size(); i++) {
+                assertEquals(
+                        stepped.getProductionManager().getRejectedRequests().get(i).stream().map(Request::getNumber).toList(),
+                        headless.getProductionManager().getRejectedRequests().get(i).stream().map(Request::getNumber).toList()
+                );
+            }
+        }
+    }
+
+    /**
+     * Checking branch of simulator.
+     * Branch should continue from same state with own random streams and should not change original simulator,
+     * both should simulate every request. Branch in the middle of interactive step throws IllegalStateException.
+     **/
+    @Test
+    void testBranch() {
+        int requestsCount = 5000;
+        ConfigJSON config = new ConfigJSON(requestsCount, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 4L,
+                null, List.of(DistributionConfig.of(DistributionType.EXPONENTIAL)));
+        Simulator simulator = new Simulator(new SimulationConfig(config), false);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(simulator.headlessStep());
+        }
+        Simulator branch = simulator.branch(new SplitMix64(1));
+        assertEquals(simulator.getProgress(), branch.getProgress());
+        assertEquals(simulator.getBuffer().getSize(), branch.getBuffer().getSize());
+        assertEquals(simulator.getProductionManager().getCurrentRequestCount(),
+                branch.getProductionManager().getCurrentRequestCount());
+
+        int progress = simulator.getProgress();
+        branch.fullSimulation();
+        assertEquals(progress, simulator.getProgress(), "branch should not change original simulator");
+        simulator.fullSimulation();
+        assertEquals(requestsCount, branch.getProgress());
+        assertEquals(requestsCount, simulator.getProgress());
+        assertNotEquals(simulator.getEndTime(), branch.getEndTime(), "branch should use own random streams");
+
+        Simulator stepped = new Simulator(new SimulationConfig(config));
+        assertTrue(stepped.simulationStep());
+        assertThrows(IllegalStateException.class, () -> stepped.branch(new SplitMix64(1)));
+    }
+
+    /**
+     * Checking extension of simulation.
+     * Simulator run until its limit and extended should end in the same state as simulator created with larger
+     * count, extension after simulation went past next arrival throws IllegalStateException.
+     **/
+    @Test
+    void testExtend() {
+        List<ConfigJSON> configs = List.of(
+                new ConfigJSON(4000, 3, List.of(1.0, 1.5, 2.0), List.of(1.0, 1.0), 8L),
+                new ConfigJSON(4000, 2, List.of(3.0, 2.0, 4.0), List.of(1.0), 8L)
+        );
+        for (ConfigJSON config : configs) {
+            SimulationConfig simulationConfig = new SimulationConfig(config);
+            Simulator expected = new Simulator(simulationConfig, false);
+            expected.fullSimulation();
+
+            Simulator extended = new Simulator(simulationConfig, 1000, false);
+            extended.runUntilLimit();
+            assertEquals(1000, extended.getProductionManager().getCurrentRequestCount());
+            assertThrows(IllegalArgumentException.class, () -> extended.extend(999));
+            extended.extend(2500);
+            extended.runUntilLimit();
+            extended.extend(4000);
+            extended.fullSimulation();
+
+            assertEquals(expected.getEndTime(), extended.getEndTime());
+            assertEquals(4000, extended.getProgress());
+            for (int i = 0; i < config.getSources().size(); i++) {
+                assertEquals(expected.getProductionManager().getRejectCount(i), extended.getProductionManager().getRejectCount(i));
+                assertEquals(expected.getSelectionManager().getSuccessStatistics().get(i).getLifeTime().getSum(),
+                        extended.getSelectionManager().getSuccessStatistics().get(i).getLifeTime().getSum());
+            }
+            assertThrows(IllegalStateException.class, () -> extended.extend(5000));
+        }
+    }
+}
@@ -2,8 +2,12 @@ import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
 import system.component.Request;
 import system.component.Source;
+import system.random.SplitMix64;
+
+import java.lang.management.ManagementFactory;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Tests related to Source
@@ -108,4 +112,34 @@ class SourceTest {
         assertEquals(time2, request2.getTime(), "request time should be same as source getTime method returns");
         assertEquals(2, source.getRequestCount(), "request count is not increment after getting");
     }
+
+    /**
+     * Checking skip of request.
+     * Skipped source should give same arrival times and counts as source which returns requests,
+     * skip should not allocate requests.
+     **/
+    @Test
+    void testSkipAndGenerate() {
+        Source skipped = new Source(0, 1.5, new SplitMix64(11));
+        Source generated = new Source(0, 1.5, new SplitMix64(11));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(generated.getRequestAndGenerate().getTime(), skipped.getTime());
+            skipped.skipAndGenerate();
+            assertEquals(generated.getTime(), skipped.getTime());
+            assertEquals(generated.getLastRequestTime(), skipped.getLastRequestTime());
+        }
+        assertEquals(generated.getRequestCount(), skipped.getRequestCount());
+
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+        long allocated = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1_000_000; i++) {
+            skipped.skipAndGenerate();
+        }
+        allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+        // one Request per skip would take more than 16 MB
+        assertTrue(allocated < 1_000_000, "skip should not allocate requests, allocated " + allocated + " bytes");
+    }
 }
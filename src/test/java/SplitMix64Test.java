@@ -0,0 +1,57 @@
+import org.junit.jupiter.api.Test;
+import system.random.RandomStream;
+import system.random.SplitMix64;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to SplitMix64
+ **/
+class SplitMix64Test {
+
+    /**
+     * Checking generated values against SplittableRandom with same seed (same algorithm), including split streams
+     **/
+    @Test
+    void testSameAsSplittableRandom() {
+        SplitMix64 stream = new SplitMix64(42);
+        SplittableRandom reference = new SplittableRandom(42);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(reference.nextLong(), stream.nextLong());
+        }
+        RandomStream split = stream.split();
+        SplittableRandom referenceSplit = reference.split();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(referenceSplit.nextLong(), split.nextLong());
+            assertEquals(reference.nextDouble(), stream.nextDouble());
+        }
+    }
+
+    /**
+     * Checking copy.
+     * Copy should generate same values as original and should not change original state.
+     **/
+    @Test
+    void testCopy() {
+        RandomStream stream = new SplitMix64(7);
+        stream.nextLong();
+        RandomStream copy = stream.copy();
+        long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = copy.nextLong();
+        }
+        for (long value : values) {
+            assertEquals(value, stream.nextLong());
+        }
+    }
+
+    /**
+     * Checking unseeded streams, they should differ
+     **/
+    @Test
+    void testUnseeded() {
+        assertNotEquals(new SplitMix64().nextLong(), new SplitMix64().nextLong());
+    }
+}
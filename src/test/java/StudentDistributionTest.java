@@ -0,0 +1,42 @@
+import org.junit.jupiter.api.Test;
+import system.util.StudentDistribution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to StudentDistribution
+ **/
+class StudentDistributionTest {
+
+    /**
+     * Checking quantiles against table values, quantile of large degrees of freedom should tend to normal one
+     **/
+    @Test
+    void testQuantile() {
+        assertEquals(12.7062, StudentDistribution.quantile(0.975, 1), 1e-4);
+        assertEquals(4.3027, StudentDistribution.quantile(0.975, 2), 1e-4);
+        assertEquals(2.2281, StudentDistribution.quantile(0.975, 10), 1e-4);
+        assertEquals(2.0423, StudentDistribution.quantile(0.975, 30), 1e-4);
+        assertEquals(2.7638, StudentDistribution.quantile(0.99, 10), 1e-4);
+        assertEquals(1.3722, StudentDistribution.quantile(0.9, 10), 1e-4);
+        assertEquals(1.9600, StudentDistribution.quantile(0.975, 100000), 1e-4);
+        assertEquals(-2.2281, StudentDistribution.quantile(0.025, 10), 1e-4);
+        assertEquals(0, StudentDistribution.quantile(0.5, 5), 1e-12);
+    }
+
+    /**
+     * Checking distribution function, it should be inverse of quantile and symmetric around zero
+     **/
+    @Test
+    void testCdf() {
+        for (int degreesOfFreedom : new int[]{1, 3, 9, 50}) {
+            for (double probability : new double[]{0.6, 0.9, 0.95, 0.999}) {
+                double t = StudentDistribution.quantile(probability, degreesOfFreedom);
+                assertEquals(probability, StudentDistribution.cdf(t, degreesOfFreedom), 1e-10);
+                assertEquals(1 - probability, StudentDistribution.cdf(-t, degreesOfFreedom), 1e-10);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> StudentDistribution.quantile(1, 5));
+        assertThrows(IllegalArgumentException.class, () -> StudentDistribution.cdf(1, 0));
+    }
+}
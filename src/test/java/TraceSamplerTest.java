@@ -0,0 +1,132 @@
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import system.component.Request;
+import system.distribution.DistributionConfig;
+import system.distribution.Sampler;
+import system.distribution.TraceConverter;
+import system.distribution.TraceSampler;
+import system.simulator.Simulator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to TraceSampler and TraceConverter
+ **/
+class TraceSamplerTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Create CSV file with header and two columns, second column contains values 0.1, 0.2, ... count / 10
+     **/
+    private Path createTrace(int count) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("time,service");
+        for (int i = 1; i <= count; i++) {
+            lines.add(i + "," + (i / 10.0));
+        }
+        Path csv = directory.resolve("trace.csv");
+        Files.write(csv, lines);
+        Path trace = directory.resolve("trace.bin");
+        assertEquals(count, TraceConverter.convert(csv, trace, 1));
+        assertEquals(count * Double.BYTES, Files.size(trace));
+        return trace;
+    }
+
+    /**
+     * Checking sequential reading of converted trace.
+     * Values should be read in file order across chunk borders (small chunks), both one by one and in blocks,
+     * and reading should start from the beginning after the end of trace when repeat is enabled.
+     * Copy continues from the same position.
+     **/
+    @Test
+    void testSequentialReading() throws IOException {
+        int count = 100;
+        TraceSampler sampler = TraceSampler.open(createTrace(count), 7, true);
+        assertEquals(count, sampler.getRecordCount());
+        assertEquals(5.05, sampler.getMean(), 1e-9);
+        assertTrue(sampler.isRepeat());
+
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(i / 10.0, sampler.sample(null));
+        }
+        Sampler copy = sampler.copy();
+        double[] block = new double[64];
+        sampler.fill(null, block);
+        for (int i = 0; i < block.length; i++) {
+            assertEquals((i + 11) / 10.0, block[i]);
+        }
+        assertEquals(1.1, copy.sample(null), "copy should continue from its own position");
+
+        sampler.fill(null, block);
+        for (int i = 0; i < block.length; i++) {
+            assertEquals(((i + 74) % count + 1) / 10.0, block[i], 1e-12, "trace should be repeated after its end");
+        }
+    }
+
+    /**
+     * Checking end of trace without repeat, reading after last record should throw IllegalStateException
+     **/
+    @Test
+    void testExhaustedTrace() throws IOException {
+        int count = 100;
+        TraceSampler sampler = TraceSampler.open(createTrace(count), 7, false);
+        assertFalse(sampler.isRepeat());
+        double[] block = new double[count];
+        sampler.fill(null, block);
+        assertEquals(count / 10.0, block[count - 1]);
+        Sampler copy = sampler.copy();
+        assertEquals(5.05, copy.getMean(), 1e-9);
+        assertThrows(IllegalStateException.class, () -> sampler.sample(null));
+        assertThrows(IllegalStateException.class, () -> copy.fill(null, block));
+    }
+
+    /**
+     * Checking invalid trace files, they should throw IllegalArgumentException
+     **/
+    @Test
+    void testInvalidTrace() throws IOException {
+        Path empty = Files.createFile(directory.resolve("empty.bin"));
+        assertThrows(IllegalArgumentException.class, () -> TraceSampler.open(empty));
+        Path broken = Files.write(directory.resolve("broken.bin"), new byte[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> TraceSampler.open(broken));
+        assertThrows(IllegalArgumentException.class, () -> TraceSampler.open(directory.resolve("missing.bin")));
+        assertThrows(IllegalArgumentException.class, () -> DistributionConfig.trace(null).createSampler(1));
+
+        Path csv = Files.write(directory.resolve("negative.csv"), List.of("1.0", "-2.0"));
+        assertThrows(IllegalArgumentException.class, () -> TraceConverter.convert(csv, directory.resolve("out.bin"), 0));
+    }
+
+    /**
+     * Checking simulation with repeated trace processor, service times of processed requests should be trace values.
+     * Same simulation without repeat should fail when trace is over.
+     **/
+    @Test
+    void testTraceProcessor() throws IOException {
+        int count = 50;
+        Path trace = createTrace(count);
+        ConfigJSON config = new ConfigJSON(1000, 3, List.of(1.0), List.of(1.0), 1L, null,
+                List.of(DistributionConfig.trace(trace.toString(), true)));
+        Simulator simulator = new Simulator(new SimulationConfig(config));
+        simulator.fullSimulation();
+        List<Request> requests = simulator.getSelectionManager().getSuccessRequests().get(0);
+        assertFalse(requests.isEmpty());
+        for (Request request : requests) {
+            double value = request.getTimeInProcessor() * 10;
+            assertEquals(Math.rint(value), value, 1e-9, "service time should be taken from trace");
+            assertTrue(value >= 1 && value <= count);
+        }
+
+        ConfigJSON exhaustedConfig = new ConfigJSON(1000, 3, List.of(1.0), List.of(1.0), 1L, null,
+                List.of(DistributionConfig.trace(trace.toString())));
+        assertThrows(IllegalStateException.class, () -> new Simulator(new SimulationConfig(exhaustedConfig)).fullSimulation());
+    }
+}
@@ -0,0 +1,117 @@
+import configs.SimulationConfig;
+import configs.SimulationConfig.ConfigJSON;
+import org.junit.jupiter.api.Test;
+import system.analyzer.VarianceReduction;
+import system.analyzer.VarianceReductionAnalyzer;
+import system.component.Source;
+import system.random.AntitheticStream;
+import system.random.RandomStream;
+import system.random.SplitMix64;
+import system.simulator.Simulator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to common random numbers and antithetic variates
+ **/
+class VarianceReductionTest {
+
+    /**
+     * Checking antithetic stream, every uniform value should be complement of value of wrapped stream,
+     * also for split and copied streams
+     **/
+    @Test
+    void testAntitheticStream() {
+        RandomStream stream = new SplitMix64(5);
+        RandomStream antithetic = new AntitheticStream(new SplitMix64(5));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(1 - 0x1.0p-53, stream.nextDouble() + antithetic.nextDouble());
+        }
+        RandomStream split = stream.split();
+        RandomStream antitheticSplit = antithetic.split();
+        RandomStream antitheticCopy = antitheticSplit.copy();
+        for (int i = 0; i < 1000; i++) {
+            double value = split.nextDouble();
+            assertEquals(1 - 0x1.0p-53, value + antitheticSplit.nextDouble());
+            assertEquals(1 - 0x1.0p-53, value + antitheticCopy.nextDouble());
+        }
+    }
+
+    /**
+     * Checking streams of sweep points.
+     * With common random numbers source with same index should generate same requests at every point,
+     * antithetic partner should generate complementary inter-arrival times (F(t) + F(t') = 1).
+     **/
+    @Test
+    void testSynchronizedStreams() {
+        SimulationConfig small = new SimulationConfig(new ConfigJSON(100, 3, List.of(1.0, 1.0), List.of(1.0), 9L))
+                .withCommonRandomNumbers();
+        SimulationConfig large = new SimulationConfig(new ConfigJSON(100, 5, List.of(1.0, 1.0, 1.0), List.of(1.0, 1.0), 9L))
+                .withCommonRandomNumbers();
+        List<Source> smallSources = small.createSources();
+        List<Source> largeSources = large.createSources();
+        for (int i = 0; i < smallSources.size(); i++) {
+            for (int request = 0; request < 100; request++) {
+                assertEquals(smallSources.get(i).getRequestAndGenerate().getTime(),
+                        largeSources.get(i).getRequestAndGenerate().getTime());
+            }
+        }
+        assertFalse(new Simulator(small, false).getProductionManager().isMergedArrivals());
+
+        SimulationConfig antithetic = small.withAntitheticSampling();
+        Source source = antithetic.createSources().get(0);
+        Source partner = antithetic.antitheticPartner().createSources().get(0);
+        assertTrue(antithetic.antitheticPartner().isComplemented());
+        for (int request = 0; request < 100; request++) {
+            double time = source.getRequestCopy().getTime() - source.getLastRequestTime();
+            double partnerTime = partner.getRequestCopy().getTime() - partner.getLastRequestTime();
+            assertEquals(1, Math.exp(-time) + Math.exp(-partnerTime), 1e-9);
+            source.getRequestAndGenerate();
+            partner.getRequestAndGenerate();
+        }
+        assertThrows(IllegalStateException.class, small::antitheticPartner);
+        assertThrows(IllegalStateException.class,
+                () -> new SimulationConfig(new ConfigJSON(100, 3, List.of(1.0), List.of(1.0))).withCommonRandomNumbers());
+    }
+
+    /**
+     * Checking achieved variance reduction on adjacent buffer capacities.
+     * Difference of reject probabilities with common random numbers should have much lower variance than with
+     * independent runs, antithetic pair average should have lower variance than average of two independent runs.
+     **/
+    @Test
+    void testVarianceReduction() {
+        SimulationConfig first = new SimulationConfig(new ConfigJSON(5000, 3, List.of(1.0, 1.5, 2.0), List.of(1.5, 1.5), 21L))
+                .withCommonRandomNumbers().withAntitheticSampling();
+        SimulationConfig second = new SimulationConfig(new ConfigJSON(5000, 4, List.of(1.0, 1.5, 2.0), List.of(1.5, 1.5), 21L))
+                .withCommonRandomNumbers().withAntitheticSampling();
+        VarianceReduction reduction = new VarianceReductionAnalyzer(20).analyze(first, second);
+        assertTrue(reduction.commonRandomNumbersFactor() > 2, "common random numbers should reduce variance");
+        assertTrue(reduction.antitheticFactor() > 1, "antithetic variates should reduce variance");
+        assertThrows(IllegalArgumentException.class, () -> new VarianceReductionAnalyzer(1));
+    }
+
+    /**
+     * Checking that only factors of enabled modes are computed, disabled ones should be NaN
+     **/
+    @Test
+    void testDisabledVarianceReduction() {
+        SimulationConfig config = new SimulationConfig(new ConfigJSON(1000, 3, List.of(1.0, 1.5), List.of(1.5), 21L));
+        VarianceReductionAnalyzer analyzer = new VarianceReductionAnalyzer(4);
+
+        VarianceReduction none = analyzer.analyze(config, config);
+        assertFalse(none.hasCommonRandomNumbers());
+        assertFalse(none.hasAntithetic());
+
+        VarianceReduction antithetic = analyzer.analyze(config.withAntitheticSampling(), config);
+        assertFalse(antithetic.hasCommonRandomNumbers());
+        assertTrue(antithetic.hasAntithetic());
+        assertTrue(Double.isNaN(analyzer.getCommonRandomNumbersFactor()));
+
+        // common random numbers need second point
+        VarianceReduction single = analyzer.analyze(config.withCommonRandomNumbers(), null);
+        assertFalse(single.hasCommonRandomNumbers());
+    }
+}
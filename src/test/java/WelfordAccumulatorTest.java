@@ -0,0 +1,55 @@
+import org.junit.jupiter.api.Test;
+import system.util.WelfordAccumulator;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to WelfordAccumulator
+ **/
+class WelfordAccumulatorTest {
+
+    /**
+     * Checking accumulated values against two-pass computation.
+     * Squared deviation is checked around mean and around another center (like Analyzer does with requestCount).
+     **/
+    @Test
+    void testAgainstTwoPass() {
+        Random random = new Random(7);
+        double[] values = new double[10000];
+        WelfordAccumulator accumulator = new WelfordAccumulator();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1000 + random.nextDouble();
+            accumulator.add(values[i]);
+        }
+
+        double sum = 0;
+        for (double value : values) sum += value;
+        double mean = sum / values.length;
+        double center = sum / (values.length + 500);
+        double deviation = 0;
+        double centerDeviation = 0;
+        for (double value : values) {
+            deviation += (value - mean) * (value - mean);
+            centerDeviation += (value - center) * (value - center);
+        }
+
+        assertEquals(values.length, accumulator.getCount());
+        assertEquals(mean, accumulator.getMean(), 1e-9);
+        assertEquals(sum, accumulator.getSum(), 1e-6);
+        assertEquals(deviation, accumulator.getSquaredDeviation(mean), 1e-6);
+        assertEquals(centerDeviation, accumulator.getSquaredDeviation(center), centerDeviation * 1e-12);
+    }
+
+    /**
+     * Checking empty accumulator, it should have zero values
+     **/
+    @Test
+    void testEmpty() {
+        WelfordAccumulator accumulator = new WelfordAccumulator();
+        assertEquals(0, accumulator.getCount());
+        assertEquals(0, accumulator.getSum());
+        assertEquals(0, accumulator.getSquaredDeviation(5));
+    }
+}
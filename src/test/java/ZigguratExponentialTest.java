@@ -0,0 +1,78 @@
+import org.junit.jupiter.api.Test;
+import system.component.Source;
+import system.random.RandomStream;
+import system.random.SplitMix64;
+import system.random.ZigguratExponential;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests related to ZigguratExponential
+ **/
+class ZigguratExponentialTest {
+
+    /**
+     * Checking distribution of generated values with Kolmogorov-Smirnov test against Exp(1).
+     * Critical value 1.95 / sqrt(n) corresponds to significance level 0.001, stream is seeded so test is stable.
+     **/
+    @Test
+    void testKolmogorovSmirnov() {
+        int count = 200000;
+        RandomStream random = new SplitMix64(2021);
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = ZigguratExponential.next(random);
+            assertTrue(values[i] >= 0, "exponential value should not be negative");
+        }
+        Arrays.sort(values);
+
+        double statistic = 0;
+        for (int i = 0; i < count; i++) {
+            double cdf = 1 - Math.exp(-values[i]);
+            statistic = Math.max(statistic, Math.max((i + 1.0) / count - cdf, cdf - (double) i / count));
+        }
+        assertTrue(statistic < 1.95 / Math.sqrt(count), "KS statistic is too big: " + statistic);
+    }
+
+    /**
+     * Checking moments and tail.
+     * Mean and variance of Exp(1) equal 1, share of values after ziggurat base (x > 7.7) should be close to exp(-7.7).
+     **/
+    @Test
+    void testMomentsAndTail() {
+        int count = 2000000;
+        RandomStream random = new SplitMix64(5);
+        double sum = 0;
+        double squaredSum = 0;
+        int tailCount = 0;
+        for (int i = 0; i < count; i++) {
+            double value = ZigguratExponential.next(random);
+            sum += value;
+            squaredSum += value * value;
+            if (value > 7.7) tailCount++;
+        }
+        double mean = sum / count;
+        double variance = squaredSum / count - mean * mean;
+        assertEquals(1.0, mean, 0.005);
+        assertEquals(1.0, variance, 0.01);
+        double expectedTail = count * Math.exp(-7.7);
+        assertEquals(expectedTail, tailCount, 5 * Math.sqrt(expectedTail));
+    }
+
+    /**
+     * Checking source inter-arrival times, their mean should be equal to 1 / lambda
+     **/
+    @Test
+    void testSourceMeanInterval() {
+        double lambda = 2.5;
+        int count = 200000;
+        Source source = new Source(0, lambda, new SplitMix64(11));
+        for (int i = 0; i < count; i++) {
+            source.getRequestAndGenerate();
+        }
+        double meanInterval = source.getRequestCopy().getTime() / (count + 1);
+        assertEquals(1 / lambda, meanInterval, 0.01 / lambda);
+    }
+}
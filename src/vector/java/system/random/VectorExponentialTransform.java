@@ -0,0 +1,42 @@
+package system.random;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorExponentialTransform implements ExponentialTransform {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void apply(double[] block, double scale) {
+        double negativeScale = -scale;
+        int bound = SPECIES.loopBound(block.length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector complement = DoubleVector.broadcast(SPECIES, 1.0).sub(DoubleVector.fromArray(SPECIES, block, i));
+            LongVector bits = complement.reinterpretAsLongs().add(ExponentialBatch.EXPONENT_OFFSET);
+            DoubleVector k = (DoubleVector) bits.lanewise(VectorOperators.ASHR, 52).sub(0x3ff)
+                    .convert(VectorOperators.L2D, 0);
+            DoubleVector f = bits.and(ExponentialBatch.MANTISSA_MASK).add(ExponentialBatch.REDUCED_EXPONENT)
+                    .reinterpretAsDoubles().sub(1.0);
+            DoubleVector halfSquare = f.mul(0.5).mul(f);
+            DoubleVector s = f.div(f.add(2.0));
+            DoubleVector z = s.mul(s);
+            DoubleVector w = z.mul(z);
+            DoubleVector t1 = w.mul(w.mul(w.mul(ExponentialBatch.LG6).add(ExponentialBatch.LG4)).add(ExponentialBatch.LG2));
+            DoubleVector t2 = z.mul(w.mul(w.mul(w.mul(ExponentialBatch.LG7).add(ExponentialBatch.LG5))
+                    .add(ExponentialBatch.LG3)).add(ExponentialBatch.LG1));
+            s.mul(halfSquare.add(t2.add(t1)))
+                    .add(k.mul(ExponentialBatch.LN2_LO))
+                    .sub(halfSquare)
+                    .add(f)
+                    .add(k.mul(ExponentialBatch.LN2_HI))
+                    .mul(negativeScale)
+                    .intoArray(block, i);
+        }
+        for (; i < block.length; i++) {
+            block[i] = negativeScale * ExponentialBatch.logComplement(block[i]);
+        }
+    }
+}